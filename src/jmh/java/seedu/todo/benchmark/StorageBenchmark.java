@@ -0,0 +1,186 @@
+package seedu.todo.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.todo.model.ImmutableTodoList;
+import seedu.todo.model.task.ImmutableTask;
+import seedu.todo.model.task.Task;
+import seedu.todo.storage.CachedTodoListStorage;
+import seedu.todo.storage.IncrementalTodoListStorage;
+import seedu.todo.storage.JournaledTodoListStorage;
+import seedu.todo.storage.MovableStorage;
+import seedu.todo.storage.TodoListFormat;
+import seedu.todo.testutil.TaskFactory;
+
+//@@author A0135817B
+/**
+ * Measures how long it takes to read and save todo lists of different sizes in every file
+ * format the app supports, and to save a list after a few of its tasks changed. Run with the
+ * GC profiler (which the jmh Gradle task does by default) to also get the allocation rate.
+ * The size of the files on disk is reported as the fileBytes counter of each benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class StorageBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int taskCount;
+
+    /**
+     * The name of a {@link TodoListFormat}, "cached-xml" for an XML file with the binary
+     * startup cache beside it, or "journaled-xml" for the journal on top of that, which is
+     * how the app stores XML todo lists
+     */
+    @Param({"xml", "binary", "segmented", "cached-xml", "journaled-xml"})
+    public String format;
+
+    /**
+     * The number of tasks changed before each save in {@link #saveChanges}
+     */
+    private static final int CHANGED_TASK_COUNT = 10;
+
+    private Path directory;
+    private MovableStorage<ImmutableTodoList> storage;
+    private List<ImmutableTask> tasks;
+    private ImmutableTodoList todoList;
+    private long fileBytes;
+
+    /**
+     * The size of the files on disk when each operation started. Formats that write more than
+     * one file, like the journal or the segments, are counted in full.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class FileSize {
+        public long fileBytes;
+    }
+
+    /**
+     * A few tasks changed before each invocation of {@link #saveChanges}
+     */
+    @State(Scope.Benchmark)
+    public static class ChangedTasks {
+        private final Random random = new Random(2103);
+        private final Set<UUID> uuids = new HashSet<>();
+        private int changeCount;
+
+        @Setup(Level.Invocation)
+        public void changeTasks(StorageBenchmark benchmark) {
+            uuids.clear();
+            for (int i = 0; i < CHANGED_TASK_COUNT; i++) {
+                int index = random.nextInt(benchmark.tasks.size());
+                Task changed = new Task(benchmark.tasks.get(index));
+                changed.setTitle("Changed task " + changeCount++);
+                benchmark.tasks.set(index, changed);
+                uuids.add(changed.getUUID());
+            }
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("todo-benchmark");
+        storage = createStorage(format, directory.resolve("todolist").toString());
+
+        tasks = TaskFactory.list(taskCount, taskCount);
+        todoList = () -> tasks;
+
+        // Write the file once so there is something to read
+        storage.save(todoList);
+    }
+
+    /**
+     * The files are measured outside of the benchmarks so that walking the directory
+     * is not timed
+     */
+    @Setup(Level.Invocation)
+    public void measureFiles() throws IOException {
+        fileBytes = getSize(directory);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Benchmark
+    public List<ImmutableTask> load(FileSize size) throws Exception {
+        size.fileBytes = fileBytes;
+        return storage.read().getTasks();
+    }
+
+    @Benchmark
+    public MovableStorage<ImmutableTodoList> save(FileSize size) throws IOException {
+        size.fileBytes = fileBytes;
+        storage.save(todoList);
+        return storage;
+    }
+
+    /**
+     * Saves the list after a few of its tasks changed, the way the app saves after each command
+     */
+    @Benchmark
+    public MovableStorage<ImmutableTodoList> saveChanges(ChangedTasks changes, FileSize size) throws IOException {
+        size.fileBytes = fileBytes;
+        if (storage instanceof IncrementalTodoListStorage) {
+            ((IncrementalTodoListStorage) storage).saveChanges(todoList, changes.uuids);
+        } else {
+            // The journal finds the changed tasks itself, and the other formats save everything
+            storage.save(todoList);
+        }
+        return storage;
+    }
+
+    private static MovableStorage<ImmutableTodoList> createStorage(String format, String location) {
+        if ("cached-xml".equals(format)) {
+            return new CachedTodoListStorage(TodoListFormat.XML.createStorage(location));
+        } else if ("journaled-xml".equals(format)) {
+            return new JournaledTodoListStorage(new CachedTodoListStorage(TodoListFormat.XML.createStorage(location)));
+        }
+
+        TodoListFormat todoListFormat = TodoListFormat.fromName(format)
+            .orElseThrow(() -> new IllegalArgumentException("Unknown format " + format));
+        return todoListFormat.createStorage(location);
+    }
+
+    /**
+     * Gets the total size of the files in the directory, since some formats are written
+     * as more than one file
+     */
+    private static long getSize(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.map(Path::toFile).filter(File::isFile).mapToLong(File::length).sum();
+        }
+    }
+}
@@ -19,14 +19,23 @@ import seedu.todo.logic.TodoLogic;
 import seedu.todo.logic.parser.Parser;
 import seedu.todo.logic.parser.TodoParser;
 import seedu.todo.model.Model;
+import seedu.todo.model.TodoList;
 import seedu.todo.model.TodoModel;
 import seedu.todo.model.UserPrefs;
+import seedu.todo.storage.ArchiveStorage;
+import seedu.todo.storage.AsyncTodoListStorage;
+import seedu.todo.storage.CachedTodoListStorage;
+import seedu.todo.storage.JournaledTodoListStorage;
+import seedu.todo.storage.MultiFormatTodoListStorage;
+import seedu.todo.storage.TodoListFormat;
+import seedu.todo.storage.UndoLogStorage;
 import seedu.todo.ui.Ui;
 import seedu.todo.ui.UiManager;
 
 import java.io.IOException;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 /**
@@ -43,8 +52,12 @@ public class MainApp extends Application {
     protected Dispatcher dispatcher; 
     protected Parser parser;
     protected Config config;
+    protected AsyncTodoListStorage storage;
+    protected UndoLogStorage undoLog;
     protected UserPrefs userPrefs;
 
+    private final CompletableFuture<Void> initialized = new CompletableFuture<>();
+
     public MainApp() {}
 
     @Override
@@ -59,7 +72,8 @@ public class MainApp extends Application {
 
         parser = new TodoParser();
 
-        model = new TodoModel(config);
+        storage = initStorage(config);
+        model = initModel(config, storage);
         
         dispatcher = new TodoDispatcher();
         logic = new TodoLogic(parser, model, dispatcher);
@@ -67,6 +81,30 @@ public class MainApp extends Application {
         ui = new UiManager(logic, config, userPrefs, model);
 
         initEventsCenter();
+        initialized.complete(null);
+    }
+
+    /**
+     * Creates a model whose tasks are read on a background thread, so the UI can be shown
+     * before the todo list is fully loaded. The tasks are only added on the JavaFX thread
+     * after init is done, since everything else is set up on the launcher thread until then.
+     */
+    private Model initModel(Config config, AsyncTodoListStorage storage) {
+        ArchiveStorage archive = new ArchiveStorage(config.getTodoListFilePath());
+        TodoList todoList = new TodoList(storage, archive, MainApp::startLoaderThread,
+            runnable -> initialized.thenRun(() -> Platform.runLater(runnable)));
+        undoLog = new UndoLogStorage(config.getTodoListFilePath());
+        return new TodoModel.Builder(todoList, storage)
+            .archiveAfterDays(config.getArchiveCompletedAfterDays())
+            .undoMemoryBudgetKb(config.getUndoMemoryBudgetKb())
+            .undoLog(undoLog)
+            .build();
+    }
+
+    private static void startLoaderThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "TodoList loader");
+        thread.setDaemon(true);
+        thread.start();
     }
 
     private String getApplicationParameter(String parameterName){
@@ -74,6 +112,21 @@ public class MainApp extends Application {
         return applicationParameters.get(parameterName);
     }
 
+    private AsyncTodoListStorage initStorage(Config config) {
+        TodoListFormat format = TodoListFormat.fromName(config.getTodoListFileFormat()).orElseGet(() -> {
+            logger.warning("Unknown todo list file format " + config.getTodoListFileFormat() + ". Using XML");
+            return TodoListFormat.XML;
+        });
+
+        MultiFormatTodoListStorage fileStorage = new MultiFormatTodoListStorage(config.getTodoListFilePath(), format);
+
+        // Segmented files already only write what changed, so they don't need a journal
+        if (format == TodoListFormat.SEGMENTED) {
+            return new AsyncTodoListStorage(fileStorage);
+        }
+        return new AsyncTodoListStorage(new JournaledTodoListStorage(new CachedTodoListStorage(fileStorage)));
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -123,6 +176,8 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping Uncle Jim's Discount To-do List ] =============================");
         ui.stop();
+        storage.flush();
+        undoLog.flush();
 
         Platform.exit();
         System.exit(0);
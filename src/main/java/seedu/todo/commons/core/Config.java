@@ -16,6 +16,9 @@ public class Config {
     private String userPrefsFilePath = "preferences.json";
     private String todoListFilePath = "data/todolist.xml";
     private String todoListName = "My Todo List";
+    private String todoListFileFormat = "xml";
+    private int archiveCompletedAfterDays = 30;
+    private int undoMemoryBudgetKb = 1024;
 
 
     public Config() {}
@@ -56,6 +59,38 @@ public class Config {
         this.todoListName = todoListName;
     }
 
+    public String getTodoListFileFormat() {
+        return todoListFileFormat;
+    }
+
+    public void setTodoListFileFormat(String todoListFileFormat) {
+        this.todoListFileFormat = todoListFileFormat;
+    }
+
+    /**
+     * The number of days after its last update that a completed task is moved into the
+     * archive. Archiving is disabled if this is zero or less.
+     */
+    public int getArchiveCompletedAfterDays() {
+        return archiveCompletedAfterDays;
+    }
+
+    public void setArchiveCompletedAfterDays(int archiveCompletedAfterDays) {
+        this.archiveCompletedAfterDays = archiveCompletedAfterDays;
+    }
+
+    /**
+     * The approximate amount of memory in kilobytes the undo history can use. Older steps
+     * are dropped once the history is larger than this, but the most recent step is always kept.
+     */
+    public int getUndoMemoryBudgetKb() {
+        return undoMemoryBudgetKb;
+    }
+
+    public void setUndoMemoryBudgetKb(int undoMemoryBudgetKb) {
+        this.undoMemoryBudgetKb = undoMemoryBudgetKb;
+    }
+
 
     @Override
     public boolean equals(Object other) {
@@ -72,12 +107,16 @@ public class Config {
                 && Objects.equals(logLevel, o.logLevel)
                 && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
                 && Objects.equals(todoListFilePath, o.todoListFilePath)
-                && Objects.equals(todoListName, o.todoListName);
+                && Objects.equals(todoListName, o.todoListName)
+                && Objects.equals(todoListFileFormat, o.todoListFileFormat)
+                && archiveCompletedAfterDays == o.archiveCompletedAfterDays
+                && undoMemoryBudgetKb == o.undoMemoryBudgetKb;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath, todoListFilePath, todoListName);
+        return Objects.hash(appTitle, logLevel, userPrefsFilePath, todoListFilePath, todoListName, todoListFileFormat,
+            archiveCompletedAfterDays, undoMemoryBudgetKb);
     }
 
     @Override
@@ -87,7 +126,10 @@ public class Config {
             .append("\nCurrent log level : ").append(logLevel)
             .append("\nPreference file Location : ").append(userPrefsFilePath)
             .append("\nLocal data file location : ").append(todoListFilePath)
-            .append("\nTodo List name : ").append(todoListName);
+            .append("\nTodo List name : ").append(todoListName)
+            .append("\nLocal data file format : ").append(todoListFileFormat)
+            .append("\nArchive completed tasks after (days) : ").append(archiveCompletedAfterDays)
+            .append("\nUndo history memory budget (kB) : ").append(undoMemoryBudgetKb);
         return sb.toString();
     }
 
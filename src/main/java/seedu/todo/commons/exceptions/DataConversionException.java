@@ -9,4 +9,9 @@ public class DataConversionException extends Exception {
         super(cause);
     }
 
+    //@@author A0135817B
+    public DataConversionException(String message) {
+        super(message);
+    }
+
 }
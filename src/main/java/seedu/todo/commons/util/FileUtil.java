@@ -3,6 +3,7 @@ package seedu.todo.commons.util;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads file
@@ -73,6 +74,15 @@ public class FileUtil {
         Files.write(file.toPath(), content.getBytes(CHARSET));
     }
 
+    /**
+     * Appends the given string to the end of a file.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(File file, String content) throws IOException {
+        Files.write(file.toPath(), content.getBytes(CHARSET), 
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
     /**
      * Converts a string to a platform-specific file path
      * @param pathWithForwardSlash A String representing a file path but using '/' as the separator
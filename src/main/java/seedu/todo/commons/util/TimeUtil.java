@@ -261,16 +261,24 @@ public class TimeUtil {
         return now.isAfter(startTime) && now.isBefore(endTime);
     }
     
+    //@@author A0135817B
+    /**
+     * Checks if any part of the task's time is today, so events that start before today
+     * or end after it are also today
+     */
     public boolean isToday(ImmutableTask task) {
-        LocalDateTime timeToCompareTo;
-        if (task.getStartTime().isPresent()) {
-            timeToCompareTo = task.getStartTime().get();
-        } else if (task.getEndTime().isPresent()) {
-            timeToCompareTo = task.getEndTime().get();
-        } else {
+        LocalDateTime endTime = task.getEndTime().orElse(task.getStartTime().orElse(null));
+        LocalDateTime startTime = task.getStartTime().orElse(endTime);
+        if (endTime == null) {
             return false;
         }
-        return isToday(now, timeToCompareTo);
+        
+        LocalDate today = getToday();
+        return !startTime.toLocalDate().isAfter(today) && !endTime.toLocalDate().isBefore(today);
+    }
+
+    public LocalDate getToday() {
+        return now.toLocalDate();
     }
 
     //@@author A0135817B
@@ -6,11 +6,30 @@ import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Helps with reading from and writing to XML files.
  */
 public class XmlUtil {
+    
+    // JAXBContext is expensive to create and thread safe, so only one is created for each class 
+    private static final Map<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the JAXBContext for the given class, creating it if this is the first time it is needed.
+     * 
+     * @throws JAXBException Thrown if the class cannot be bound to XML
+     */
+    public static JAXBContext getContext(Class<?> classToBind) throws JAXBException {
+        JAXBContext context = contexts.get(classToBind);
+        if (context == null) {
+            context = JAXBContext.newInstance(classToBind);
+            contexts.put(classToBind, context);
+        }
+        return context;
+    }
 
     /**
      * Returns the xml data in the file as an object of the specified type.
@@ -33,8 +52,7 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
+        Unmarshaller um = getContext(classToConvert).createUnmarshaller();
 
         return ((T) um.unmarshal(file));
     }
@@ -57,8 +75,7 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
+        Marshaller m = getContext(data.getClass()).createMarshaller();
         m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
 
         m.marshal(data, file);
@@ -9,6 +9,8 @@ import java.time.LocalDateTime;
 public class DateRange {
     private final LocalDateTime endTime; 
     private LocalDateTime startTime;
+    private boolean isStartTimeGiven = true;
+    private boolean isEndTimeGiven = true;
     
     public DateRange(LocalDateTime endTime) {
         this.endTime = endTime;
@@ -19,6 +21,12 @@ public class DateRange {
         this.startTime = startTime;
     }
 
+    DateRange(LocalDateTime startTime, LocalDateTime endTime, boolean isStartTimeGiven, boolean isEndTimeGiven) {
+        this(startTime, endTime);
+        this.isStartTimeGiven = isStartTimeGiven;
+        this.isEndTimeGiven = isEndTimeGiven;
+    }
+
     public LocalDateTime getEndTime() {
         return endTime;
     }
@@ -30,4 +38,20 @@ public class DateRange {
     public boolean isRange() {
         return startTime != null;
     }
+
+    /**
+     * Whether a time of day was given for the start time. If only a date was given, the
+     * start time is on that date at the time it was parsed.
+     */
+    public boolean isStartTimeGiven() {
+        return isStartTimeGiven;
+    }
+
+    /**
+     * Whether a time of day was given for the end time. If only a date was given, the
+     * end time is on that date at the time it was parsed.
+     */
+    public boolean isEndTimeGiven() {
+        return isEndTimeGiven;
+    }
 }
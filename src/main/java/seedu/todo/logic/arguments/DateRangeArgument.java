@@ -5,7 +5,9 @@ import seedu.todo.commons.util.StringUtil;
 import seedu.todo.commons.util.TimeUtil;
 import seedu.todo.logic.parser.TodoParser;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.Date;
 import java.util.List;
 import java.util.StringJoiner;
@@ -18,6 +20,12 @@ public class DateRangeArgument extends Argument<DateRange> {
     // TODO: Review all error messages to check for user friendliness 
     private static final String TOO_MANY_DATES_FORMAT = "You specified too many time - we found: %s";
     private static final String NO_DATE_FOUND_FORMAT = "%s does not seem to contain a date";
+
+    /**
+     * How far apart the time of a parsed date and the time "now" was parsed at can be for
+     * the date to be taken as having no time of day
+     */
+    private static final Duration INFERRED_TIME_TOLERANCE = Duration.ofSeconds(1);
     
     public DateRangeArgument(String name) {
         // Makes sure that there is a default value, so that callers won't get null when they getValue()
@@ -46,12 +54,20 @@ public class DateRangeArgument extends Argument<DateRange> {
             throw new IllegalValueException(String.format(DateRangeArgument.NO_DATE_FOUND_FORMAT, input));
         }
         
+        // Dates given without a time of day are parsed with the current time, which is also what
+        // "now" is parsed as, so comparing against it tells whether a time was given
+        LocalTime parseTime = TimeUtil.asLocalDateTime(TodoParser.dateTimeParser.parse("now").get(0)).toLocalTime();
         if (dates.size() == 1) {
-            value = new DateRange(dates.get(0));
+            value = new DateRange(null, dates.get(0), true, isTimeGiven(dates.get(0), parseTime));
         } else {
-            value = new DateRange(dates.get(0), dates.get(1));
+            value = new DateRange(dates.get(0), dates.get(1),
+                isTimeGiven(dates.get(0), parseTime), isTimeGiven(dates.get(1), parseTime));
         }
     }
+
+    private static boolean isTimeGiven(LocalDateTime date, LocalTime parseTime) {
+        return Duration.between(date.toLocalTime(), parseTime).abs().compareTo(INFERRED_TIME_TOLERANCE) > 0;
+    }
     
     private void tooManyDatesError(List<LocalDateTime> dates) throws IllegalValueException {
         StringJoiner sj = new StringJoiner(", ");
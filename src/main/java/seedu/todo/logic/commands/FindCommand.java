@@ -6,11 +6,13 @@ import com.google.common.collect.ImmutableList;
 import seedu.todo.commons.exceptions.ValidationException;
 import seedu.todo.commons.util.StringUtil;
 import seedu.todo.logic.arguments.Argument;
+import seedu.todo.logic.arguments.DateRange;
+import seedu.todo.logic.arguments.DateRangeArgument;
 import seedu.todo.logic.arguments.Parameter;
 import seedu.todo.logic.arguments.StringArgument;
-import seedu.todo.model.tag.Tag;
 import seedu.todo.model.task.ImmutableTask;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.function.Predicate;
 
@@ -22,10 +24,16 @@ public class FindCommand extends BaseCommand {
 
     private Argument<String> tags = new StringArgument("tags")
             .flag("t");
+
+    private Argument<DateRange> from = new DateRangeArgument("from")
+            .flag("from");
+
+    private Argument<DateRange> to = new DateRangeArgument("to")
+            .flag("to");
     
     @Override
     protected Parameter[] getArguments() {
-        return new Parameter[] { keywords, tags };
+        return new Parameter[] { keywords, tags, from, to };
     }
 
     @Override
@@ -42,7 +50,8 @@ public class FindCommand extends BaseCommand {
     @Override
     public CommandResult execute() throws ValidationException {
         // Dismissing search results if there are no keywords
-        if (isEmpty(keywords) && isEmpty(tags)) {
+        boolean hasTimeRange = from.hasBoundValue() || to.hasBoundValue();
+        if (isEmpty(keywords) && isEmpty(tags) && !hasTimeRange) {
             model.find(t -> true);
             return new CommandResult();
         }
@@ -50,6 +59,7 @@ public class FindCommand extends BaseCommand {
         // Construct the predicate and list of search terms 
         Predicate<ImmutableTask> filter = t -> false;
         List<String> terms = new ArrayList<>();
+        boolean hasTerms = !isEmpty(keywords) || !isEmpty(tags);
         
         if (!isEmpty(keywords)) {
             List<String> keywordList = getSearchTerms(keywords);
@@ -63,16 +73,44 @@ public class FindCommand extends BaseCommand {
         if (!isEmpty(tags)) {
             List<String> tagList = getSearchTerms(tags);
             terms.addAll(tagList);
-            filter = filter.or(task -> {
-                Set<String> taskTagNames = Tag.getLowerCaseNames(task.getTags());
-                return !Collections.disjoint(taskTagNames, tagList);
-            });
+            filter = filter.or(model.taggedWith(tagList));
+        }
+
+        // Only tasks in the time range are found, and it is looked up first since it is cheaper
+        if (hasTimeRange) {
+            Predicate<ImmutableTask> during = model.during(getFromTime(), getToTime());
+            filter = hasTerms ? during.and(filter) : during;
         }
 
         model.find(filter, terms);
         return new CommandResult(FEEDBACK);
     }
 
+    /**
+     * Gets the start of the time range, which is the start of the day if only a date was given
+     */
+    private LocalDateTime getFromTime() {
+        DateRange range = from.getValue();
+        LocalDateTime time = range.isRange() ? range.getStartTime() : range.getEndTime();
+        boolean isTimeGiven = range.isRange() ? range.isStartTimeGiven() : range.isEndTimeGiven();
+        if (time == null || isTimeGiven) {
+            return time;
+        }
+        return time.toLocalDate().atStartOfDay();
+    }
+
+    /**
+     * Gets the end of the time range, which is the end of the day if only a date was given
+     */
+    private LocalDateTime getToTime() {
+        DateRange range = to.getValue();
+        LocalDateTime time = range.getEndTime();
+        if (time == null || range.isEndTimeGiven()) {
+            return time;
+        }
+        return time.toLocalDate().plusDays(1).atStartOfDay().minusNanos(1);
+    }
+
     /**
      * Splits the argument's value into lowercase space or comma delimited terms 
      */
@@ -1,6 +1,8 @@
 package seedu.todo.model;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 import seedu.todo.model.task.ImmutableTask;
 
@@ -10,4 +12,12 @@ public interface ImmutableTodoList {
      * Get an immutable list of tasks 
      */
     List<ImmutableTask> getTasks();
+
+    /**
+     * Gets the task with the given UUID. This looks through every task, so todo lists
+     * that can find a task faster should override it.
+     */
+    default Optional<ImmutableTask> getTask(UUID uuid) {
+        return getTasks().stream().filter(task -> task.getUUID().equals(uuid)).findFirst();
+    }
 }
@@ -1,6 +1,8 @@
 package seedu.todo.model;
 
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.value.ObservableIntegerValue;
 import seedu.todo.model.property.TaskViewFilter;
 import seedu.todo.commons.core.UnmodifiableObservableList;
 import seedu.todo.commons.exceptions.IllegalValueException;
@@ -11,6 +13,8 @@ import seedu.todo.model.task.ImmutableTask;
 import seedu.todo.model.task.MutableTask;
 import seedu.todo.model.task.Task;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -93,6 +97,32 @@ public interface Model {
      */
     List<ImmutableTask> updateAll(Consumer <MutableTask> update) throws ValidationException;
 
+    /**
+     * A set of changes to the model made together by {@link #batch(BatchUpdate)}
+     */
+    @FunctionalInterface
+    interface BatchUpdate {
+        void accept(Model model) throws ValidationException;
+    }
+
+    /**
+     * Makes every change in <code>update</code> to the model passed to it as a single change.
+     * The changes are undone and redone together, the todo list is saved once, and the
+     * observable list reports all of them as one change once the batch is done. If any change
+     * fails, the changes made before it are reverted, so either every change is made or none are.
+     *
+     * Displayed indexes used inside the batch refer to the tasks as they were displayed before
+     * the batch, since the observable list is not updated until the batch is done.
+     * 
+     * <pre><code>model.batch(m -> {
+     *     m.delete(3);
+     *     m.update(1, t -> t.setPinned(true)); // Still the first task before the deletion
+     * });</code></pre>
+     *
+     * @throws ValidationException if any of the changes are invalid
+     */
+    void batch(BatchUpdate update) throws ValidationException;
+
     /**
      * Sets the model to the provided TaskViewFilter object. TaskViewFilters represents the
      * filter and sorting needed by each intelligent view
@@ -112,6 +142,29 @@ public interface Model {
      */
     void find(Predicate<ImmutableTask> predicate, List<String> terms);
 
+    /**
+     * Gets a predicate for {@link #find} that matches the tasks whose time overlaps the range from
+     * {@code from} to {@code to}, including events that start before the range or end after it.
+     * Either end can be null to leave the range open on that side. The tasks are looked up from an
+     * index rather than by testing every task, and the predicate is only kept up to date until
+     * the next time this is called.
+     */
+    Predicate<ImmutableTask> during(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Gets a predicate for {@link #find} that matches the tasks with any of the tags, regardless
+     * of case. The tasks that have the tags are collected from the tasks kept for each tag, and
+     * tasks changed later are checked by the IDs of their tags instead of by name. The view still
+     * tests every task with the predicate, so each test is cheap but a find is linear in the
+     * number of tasks.
+     */
+    Predicate<ImmutableTask> taggedWith(Collection<String> tagNames);
+
+    /**
+     * Gets the number of tasks in the view, which is kept up to date as the tasks change
+     */
+    ObservableIntegerValue getTaskCount(TaskViewFilter view);
+
     /**
      * Undoes the last operation that modifies the todolist
      * @throws ValidationException if there are no more changes to undo
@@ -156,6 +209,20 @@ public interface Model {
      */
     ObjectProperty<SearchStatus> getSearchStatus();
 
+    /**
+     * Get the fraction of the tasks that have been loaded, which is 1 once loading is done.
+     * Used mainly by the JavaFx UI.
+     */
+    ReadOnlyDoubleProperty getLoadProgress();
+
+    /**
+     * Loads the next page of archived tasks into the completed view. Used mainly by the
+     * JavaFx UI when the end of the completed view is reached.
+     *
+     * @return false if every archived task has already been loaded
+     */
+    boolean loadMoreArchived();
+
     //@@author A0135805H
     /**
      * Gets an immutable copy of the task
@@ -0,0 +1,117 @@
+package seedu.todo.model;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import seedu.todo.model.task.ImmutableTask;
+
+//@@author A0135817B
+/**
+ * Splits the tasks read from storage into batches so they can be added to the todo list
+ * a few at a time. The first batch contains the pinned tasks and the most recently updated
+ * tasks, which are the ones at the top of the default view, so the first screen can be
+ * shown before the rest of the tasks are added.
+ *
+ * Every batch is inserted at the positions the tasks have in the list that was read, so
+ * once everything is loaded the tasks are in the same order as in storage.
+ */
+class ProgressiveLoad {
+    static final int FIRST_SCREEN_SIZE = 50;
+
+    private final List<ImmutableTask> tasks;
+    private final BitSet firstBatch = new BitSet();
+
+    /**
+     * The index of the next task in {@link #tasks} that has not been considered, and the
+     * position in the todo list that task will be inserted at
+     */
+    private int next;
+    private int position;
+    private int loaded;
+
+    /**
+     * Receives a run of consecutive tasks and the position in the todo list to insert them at
+     */
+    @FunctionalInterface
+    interface BatchConsumer {
+        void accept(int position, List<ImmutableTask> tasks);
+    }
+
+    ProgressiveLoad(List<ImmutableTask> tasks) {
+        this.tasks = tasks;
+    }
+
+    /**
+     * Returns the tasks that should be shown first, in storage order. This must be called
+     * before any call to {@link #loadNextBatch(int, BatchConsumer)}, and the tasks must be
+     * inserted at the start of the todo list.
+     */
+    List<ImmutableTask> getFirstBatch() {
+        assert loaded == 0;
+
+        // Keep the most recently updated tasks in a min heap, so the oldest of them is dropped first
+        PriorityQueue<Integer> recent = new PriorityQueue<>(
+            Comparator.comparing((Integer i) -> tasks.get(i).getCreatedAt()));
+        for (int i = 0; i < tasks.size(); i++) {
+            if (tasks.get(i).isPinned()) {
+                firstBatch.set(i);
+            } else {
+                recent.add(i);
+                if (recent.size() > FIRST_SCREEN_SIZE) {
+                    recent.poll();
+                }
+            }
+        }
+        recent.forEach(firstBatch::set);
+
+        List<ImmutableTask> batch = new ArrayList<>(firstBatch.cardinality());
+        for (int i = firstBatch.nextSetBit(0); i >= 0; i = firstBatch.nextSetBit(i + 1)) {
+            batch.add(tasks.get(i));
+        }
+        loaded = batch.size();
+        return batch;
+    }
+
+    /**
+     * Passes up to <code>batchSize</code> of the remaining tasks to the consumer, in runs
+     * of tasks that are next to each other in the todo list
+     */
+    void loadNextBatch(int batchSize, BatchConsumer consumer) {
+        List<ImmutableTask> run = new ArrayList<>();
+        int runPosition = position;
+        int count = 0;
+
+        while (next < tasks.size() && count < batchSize) {
+            if (firstBatch.get(next)) {
+                // This task is already in the list, so the run has to be split around it
+                if (!run.isEmpty()) {
+                    consumer.accept(runPosition, run);
+                    run = new ArrayList<>();
+                }
+                position++;
+                runPosition = position;
+            } else {
+                run.add(tasks.get(next));
+                position++;
+                count++;
+            }
+            next++;
+        }
+
+        if (!run.isEmpty()) {
+            consumer.accept(runPosition, run);
+        }
+        loaded += count;
+    }
+
+    boolean isDone() {
+        return loaded == tasks.size();
+    }
+
+    double getProgress() {
+        return tasks.isEmpty() ? 1 : (double) loaded / tasks.size();
+    }
+}
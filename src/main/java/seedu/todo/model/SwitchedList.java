@@ -0,0 +1,81 @@
+package seedu.todo.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+//@@author A0135817B
+/**
+ * An observable list that shows the items of one source list at a time, and passes on the
+ * changes made to that list. Switching to another source is reported as the items of the old
+ * source being replaced by those of the new one, so lists built on top of this one don't have
+ * to be rebuilt when the source changes.
+ */
+class SwitchedList<E> extends ObservableListBase<E> {
+    private final ListChangeListener<E> listener = this::onSourceChanged;
+    private ObservableList<E> source = FXCollections.emptyObservableList();
+
+    ObservableList<E> getSource() {
+        return source;
+    }
+
+    void setSource(ObservableList<E> source) {
+        if (source == this.source) {
+            return;
+        }
+
+        // The old items are copied since the old source keeps changing after the switch
+        List<E> removed = new ArrayList<>(this.source);
+        this.source.removeListener(listener);
+        this.source = source;
+        source.addListener(listener);
+
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (!source.isEmpty()) {
+            nextAdd(0, source.size());
+        }
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return source.get(index);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    private void onSourceChanged(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i);
+                }
+                nextPermutation(change.getFrom(), change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    nextRemove(change.getFrom(), change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    nextAdd(change.getFrom(), change.getTo());
+                }
+            }
+        }
+        endChange();
+    }
+}
@@ -0,0 +1,236 @@
+package seedu.todo.model;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.todo.model.tag.Tag;
+import seedu.todo.model.task.ImmutableTask;
+
+//@@author A0135817B
+/**
+ * A copy of the fields of the tasks in a {@link TodoList} that filters and sorts look at,
+ * stored as one array per field with a row for each task, in the same order as the todo list.
+ * Times are stored as primitive longs and tags as arrays of tag IDs, so filters and sorts can
+ * run over many tasks without allocating or following pointers to each task's fields.
+ *
+ * The rows are kept up to date by the todo list's {@link TaskList} as tasks are added, changed
+ * and removed. The row of a task is found with {@link #rowOf(ImmutableTask)}.
+ */
+public class TaskColumns {
+    /**
+     * The value stored for a task without the time. It is greater than every other time,
+     * so tasks without the time sort after those with it.
+     */
+    public static final long NO_TIME = Long.MAX_VALUE;
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long MAX_SECONDS = Long.MAX_VALUE / NANOS_PER_SECOND - 1;
+
+    private static final int COMPLETED = 1;
+    private static final int PINNED = 1 << 1;
+
+    private static final int[] NO_TAGS = new int[0];
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * A filter on the tasks in the columns
+     */
+    @FunctionalInterface
+    public interface RowPredicate {
+        boolean test(TaskColumns columns, int row);
+    }
+
+    /**
+     * A sort order of the tasks in the columns
+     */
+    @FunctionalInterface
+    public interface RowComparator {
+        int compare(TaskColumns columns, int row1, int row2);
+    }
+
+    private final TaskList tasks;
+
+    private int size;
+    private long[] startTimes = new long[INITIAL_CAPACITY];
+    private long[] endTimes = new long[INITIAL_CAPACITY];
+    private long[] createdAt = new long[INITIAL_CAPACITY];
+    private byte[] flags = new byte[INITIAL_CAPACITY];
+    private int[][] tagIds = new int[INITIAL_CAPACITY][];
+
+    /**
+     * Tag IDs by lowercase tag name. IDs are never reused, so an ID always means the same tag.
+     */
+    private final Map<String, Integer> tagIdsByName = new HashMap<>();
+
+    TaskColumns(TaskList tasks) {
+        this.tasks = tasks;
+    }
+
+    /**
+     * Converts a time to the value stored in the columns, which preserves the ordering of times
+     */
+    public static long toColumnTime(LocalDateTime time) {
+        if (time == null) {
+            return NO_TIME;
+        }
+
+        // Times too far from now to fit are clamped, which only affects their order among themselves
+        long seconds = time.toEpochSecond(ZoneOffset.UTC);
+        if (seconds >= MAX_SECONDS) {
+            return NO_TIME - 1;
+        } else if (seconds <= -MAX_SECONDS) {
+            return Long.MIN_VALUE;
+        }
+        return seconds * NANOS_PER_SECOND + time.getNano();
+    }
+
+    /**
+     * Gets the row of the given task, or -1 if it is not in the todo list
+     */
+    public int rowOf(ImmutableTask task) {
+        return tasks.indexOf(task.getUUID());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getStartTime(int row) {
+        return startTimes[row];
+    }
+
+    public long getEndTime(int row) {
+        return endTimes[row];
+    }
+
+    public long getCreatedAt(int row) {
+        return createdAt[row];
+    }
+
+    public boolean isCompleted(int row) {
+        return (flags[row] & COMPLETED) != 0;
+    }
+
+    public boolean isPinned(int row) {
+        return (flags[row] & PINNED) != 0;
+    }
+
+    public boolean isEvent(int row) {
+        return startTimes[row] != NO_TIME;
+    }
+
+    /**
+     * Gets the IDs of the tags of the task in the row, in ascending order. The array must
+     * not be modified.
+     */
+    public int[] getTagIds(int row) {
+        return tagIds[row];
+    }
+
+    /**
+     * Gets the ID of the tag with the given name, regardless of case, or -1 if no task
+     * in the todo list has ever had the tag
+     */
+    public int getTagId(String tagName) {
+        Integer id = tagIdsByName.get(tagName.toLowerCase());
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Gets the ID of the tag with the given name, regardless of case, adding an ID if no task
+     * has had the tag yet
+     */
+    private int getOrAddTagId(String tagName) {
+        return tagIdsByName.computeIfAbsent(tagName.toLowerCase(), name -> tagIdsByName.size());
+    }
+
+    public boolean hasTag(int row, int tagId) {
+        return tagId != -1 && Arrays.binarySearch(tagIds[row], tagId) >= 0;
+    }
+
+    void insert(int row, ImmutableTask task) {
+        ensureCapacity(size + 1);
+        int moved = size - row;
+        System.arraycopy(startTimes, row, startTimes, row + 1, moved);
+        System.arraycopy(endTimes, row, endTimes, row + 1, moved);
+        System.arraycopy(createdAt, row, createdAt, row + 1, moved);
+        System.arraycopy(flags, row, flags, row + 1, moved);
+        System.arraycopy(tagIds, row, tagIds, row + 1, moved);
+        size++;
+        set(row, task);
+    }
+
+    void set(int row, ImmutableTask task) {
+        startTimes[row] = toColumnTime(task.getStartTime().orElse(null));
+        endTimes[row] = toColumnTime(task.getEndTime().orElse(null));
+        createdAt[row] = toColumnTime(task.getCreatedAt());
+        flags[row] = (byte) ((task.isCompleted() ? COMPLETED : 0) | (task.isPinned() ? PINNED : 0));
+        tagIds[row] = toTagIds(task.getTags());
+    }
+
+    void remove(int row) {
+        int moved = size - row - 1;
+        System.arraycopy(startTimes, row + 1, startTimes, row, moved);
+        System.arraycopy(endTimes, row + 1, endTimes, row, moved);
+        System.arraycopy(createdAt, row + 1, createdAt, row, moved);
+        System.arraycopy(flags, row + 1, flags, row, moved);
+        System.arraycopy(tagIds, row + 1, tagIds, row, moved);
+        size--;
+        tagIds[size] = null;
+    }
+
+    /**
+     * Removes the given rows in one pass, like {@link TaskList#removeAll(BitSet)}
+     */
+    void removeAll(BitSet rows) {
+        int kept = rows.nextSetBit(0);
+        if (kept == -1) {
+            return;
+        }
+
+        for (int row = kept; row < size; row++) {
+            if (!rows.get(row)) {
+                startTimes[kept] = startTimes[row];
+                endTimes[kept] = endTimes[row];
+                createdAt[kept] = createdAt[row];
+                flags[kept] = flags[row];
+                tagIds[kept] = tagIds[row];
+                kept++;
+            }
+        }
+        Arrays.fill(tagIds, kept, size, null);
+        size = kept;
+    }
+
+    private int[] toTagIds(Set<Tag> tags) {
+        if (tags.isEmpty()) {
+            return NO_TAGS;
+        }
+
+        int[] ids = new int[tags.size()];
+        int i = 0;
+        for (Tag tag : tags) {
+            ids[i++] = getOrAddTagId(tag.getTagName());
+        }
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= startTimes.length) {
+            return;
+        }
+
+        int newCapacity = Math.max(capacity, startTimes.length * 2);
+        startTimes = Arrays.copyOf(startTimes, newCapacity);
+        endTimes = Arrays.copyOf(endTimes, newCapacity);
+        createdAt = Arrays.copyOf(createdAt, newCapacity);
+        flags = Arrays.copyOf(flags, newCapacity);
+        tagIds = Arrays.copyOf(tagIds, newCapacity);
+    }
+}
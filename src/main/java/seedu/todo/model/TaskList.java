@@ -0,0 +1,202 @@
+package seedu.todo.model;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import javafx.collections.ModifiableObservableListBase;
+import seedu.todo.model.task.Task;
+
+//@@author A0135817B
+/**
+ * The observable list of tasks in a {@link TodoList}. Each task is observed directly, so a
+ * change to any property of a task in the list is reported as an update to the list, and all
+ * the changes made in one {@link Task#edit} are reported as a single update. In addition, the
+ * list can
+ *
+ * <ul>
+ *     <li>find the position of a task by its UUID in amortized constant time,</li>
+ *     <li>remove many tasks at once in a single pass,</li>
+ *     <li>keep a copy of the fields of its tasks by column in {@link TaskColumns},</li>
+ *     <li>find its tasks by time with a {@link TaskTimeIndex}, and</li>
+ *     <li>merge every change made during a batch into a single change, which is reported
+ *     once the batch ends.</li>
+ * </ul>
+ */
+class TaskList extends ModifiableObservableListBase<Task> {
+    private final List<Task> tasks = new ArrayList<>();
+    private final Consumer<Task> taskListener = this::onTaskChanged;
+    private final TaskColumns columns = new TaskColumns(this);
+    private final TaskTimeIndex timeIndex = new TaskTimeIndex();
+
+    /**
+     * The position of each task by UUID. Only the positions of the first {@link #indexedCount}
+     * tasks are known to be correct, since adding or removing a task moves every task after
+     * it. The rest are updated the next time a position is looked up.
+     *
+     * A lookup is therefore only constant time while the list has not changed before the
+     * last position indexed. After a task is added or removed at position p, the next lookup
+     * indexes the tasks from p to the end of the list again. Since moving those tasks already
+     * costs the add or remove O(n - p) time, this at most doubles its cost, and many changes
+     * in a row, such as those made while loading, only pay for it once.
+     */
+    private final Map<UUID, Integer> positions = new HashMap<>();
+    private int indexedCount;
+
+    /**
+     * Gets the position of the task with the given UUID, or -1 if there is no such task.
+     * This takes constant time, except for the first lookup after the list changed, which
+     * also indexes the tasks after the earliest change.
+     */
+    int indexOf(UUID uuid) {
+        for (; indexedCount < tasks.size(); indexedCount++) {
+            positions.put(tasks.get(indexedCount).getUUID(), indexedCount);
+        }
+
+        Integer position = positions.get(uuid);
+        return position == null ? -1 : position;
+    }
+
+    /**
+     * Gets the fields of the tasks in the list stored by column, which are kept up to date
+     * as the list changes
+     */
+    TaskColumns getColumns() {
+        return columns;
+    }
+
+    /**
+     * Gets the index of the tasks in the list by time, which is kept up to date as the list changes
+     */
+    TaskTimeIndex getTimeIndex() {
+        return timeIndex;
+    }
+
+    /**
+     * Holds back the changes made to the list until the matching call to {@link #endBatch()},
+     * then reports them as one change. Batches can be nested, in which case the changes are
+     * reported when the outermost batch ends.
+     */
+    void startBatch() {
+        beginChange();
+    }
+
+    void endBatch() {
+        endChange();
+    }
+
+    /**
+     * Removes the tasks at the given positions in one pass over the list, and reports
+     * them as one change
+     */
+    void removeAll(BitSet positions) {
+        int first = positions.nextSetBit(0);
+        if (first == -1 || first >= tasks.size()) {
+            return;
+        }
+
+        beginChange();
+        int kept = first;
+        for (int i = first; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            if (positions.get(i)) {
+                unobserve(task);
+                timeIndex.remove(task);
+                this.positions.remove(task.getUUID());
+                // The tasks before this one that were removed are already gone from the list
+                nextRemove(kept, task);
+            } else {
+                tasks.set(kept++, task);
+            }
+        }
+        tasks.subList(kept, tasks.size()).clear();
+        columns.removeAll(positions);
+        indexedCount = Math.min(indexedCount, first);
+        modCount++;
+        endChange();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        BitSet removed = new BitSet(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            if (c.contains(tasks.get(i))) {
+                removed.set(i);
+            }
+        }
+
+        removeAll(removed);
+        return !removed.isEmpty();
+    }
+
+    @Override
+    public Task get(int index) {
+        return tasks.get(index);
+    }
+
+    @Override
+    public int size() {
+        return tasks.size();
+    }
+
+    @Override
+    protected void doAdd(int index, Task task) {
+        tasks.add(index, task);
+        columns.insert(index, task);
+        timeIndex.add(task);
+        indexedCount = Math.min(indexedCount, index);
+        observe(task);
+    }
+
+    @Override
+    protected Task doSet(int index, Task task) {
+        Task old = tasks.set(index, task);
+        columns.set(index, task);
+        timeIndex.remove(old);
+        timeIndex.add(task);
+        unobserve(old);
+        positions.remove(old.getUUID());
+        if (index < indexedCount) {
+            positions.put(task.getUUID(), index);
+        }
+        observe(task);
+        return old;
+    }
+
+    @Override
+    protected Task doRemove(int index) {
+        Task old = tasks.remove(index);
+        columns.remove(index);
+        timeIndex.remove(old);
+        unobserve(old);
+        positions.remove(old.getUUID());
+        indexedCount = Math.min(indexedCount, index);
+        return old;
+    }
+
+    private void observe(Task task) {
+        task.addListener(taskListener);
+    }
+
+    private void unobserve(Task task) {
+        task.removeListener(taskListener);
+    }
+
+    private void onTaskChanged(Task task) {
+        int index = indexOf(task.getUUID());
+        if (index == -1) {
+            return;
+        }
+
+        columns.set(index, task);
+        timeIndex.update(task);
+        beginChange();
+        nextUpdate(index);
+        endChange();
+    }
+}
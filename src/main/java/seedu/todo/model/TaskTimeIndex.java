@@ -0,0 +1,311 @@
+package seedu.todo.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import seedu.todo.model.task.ImmutableTask;
+
+//@@author A0135817B
+/**
+ * An index of the tasks in a {@link TodoList} by the time they take up, which is from the start
+ * to the end time of events, and the end time of deadlines. Tasks without a time are not indexed.
+ * The index finds the tasks whose time overlaps a range, including events that started before
+ * the range or end after it, in O(log n + k) time for k tasks found.
+ *
+ * The index is an interval tree: a binary search tree of the tasks ordered by start time, with
+ * each node keeping the latest end time in its subtree so that subtrees ending before a range
+ * can be skipped. The tree is a treap, which stays balanced on average without rebalancing the
+ * whole tree as tasks are added and removed. Events and deadlines are kept in separate trees so
+ * that all the events can be found without looking at any deadline.
+ *
+ * Ranges can be watched with {@link #watch(LocalDateTime, LocalDateTime, boolean)}, which keeps
+ * the tasks in them up to date as tasks are added, changed and removed, so they can be used as
+ * the filter of a view without searching the index again. The index is kept up to date by the
+ * todo list's {@link TaskList}.
+ */
+public class TaskTimeIndex {
+    /**
+     * Gets the range a view shows from the index
+     */
+    @FunctionalInterface
+    public interface Query {
+        Range watch(TaskTimeIndex index);
+    }
+
+    /**
+     * The tasks whose time overlaps a range, including both ends. This is kept up to date
+     * until the range is passed to {@link #unwatch(Range)}.
+     */
+    public static class Range implements Predicate<ImmutableTask> {
+        private final long from;
+        private final long to;
+        private final boolean isEventsOnly;
+        private final Set<UUID> uuids = new HashSet<>();
+
+        private Range(long from, long to, boolean isEventsOnly) {
+            this.from = from;
+            this.to = to;
+            this.isEventsOnly = isEventsOnly;
+        }
+
+        private boolean overlaps(Node node) {
+            return node.start <= to && node.end >= from && (node.isEvent || !isEventsOnly);
+        }
+
+        public int size() {
+            return uuids.size();
+        }
+
+        @Override
+        public boolean test(ImmutableTask task) {
+            return uuids.contains(task.getUUID());
+        }
+    }
+
+    private static class Node {
+        final ImmutableTask task;
+        final long start;
+        final long end;
+        final boolean isEvent;
+        final int priority;
+
+        long maxEnd;
+        Node left;
+        Node right;
+
+        Node(ImmutableTask task, long start, long end, boolean isEvent, int priority) {
+            this.task = task;
+            this.start = start;
+            this.end = end;
+            this.isEvent = isEvent;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+
+        int compareTo(long start, UUID uuid) {
+            int compare = Long.compare(this.start, start);
+            return compare != 0 ? compare : task.getUUID().compareTo(uuid);
+        }
+
+        void updateMaxEnd() {
+            maxEnd = end;
+            if (left != null) {
+                maxEnd = Math.max(maxEnd, left.maxEnd);
+            }
+            if (right != null) {
+                maxEnd = Math.max(maxEnd, right.maxEnd);
+            }
+        }
+    }
+
+    private final Random random = new Random();
+    private final Map<UUID, Node> nodes = new HashMap<>();
+    private final List<Range> watched = new ArrayList<>();
+    private Node events;
+    private Node deadlines;
+
+    TaskTimeIndex() {
+    }
+
+    /**
+     * Gets the tasks whose time overlaps the range from {@code from} to {@code to}, in order
+     * of their start time. Either end can be null to leave the range open on that side.
+     */
+    public List<ImmutableTask> getTasksBetween(LocalDateTime from, LocalDateTime to) {
+        Range range = toRange(from, to, false);
+        List<ImmutableTask> found = new ArrayList<>();
+        find(range, node -> found.add(node.task));
+        return found;
+    }
+
+    /**
+     * Starts keeping track of the tasks whose time overlaps the range from {@code from} to
+     * {@code to}. Either end can be null to leave the range open on that side.
+     *
+     * @param isEventsOnly whether only events should be in the range
+     */
+    public Range watch(LocalDateTime from, LocalDateTime to, boolean isEventsOnly) {
+        Range range = toRange(from, to, isEventsOnly);
+        find(range, node -> range.uuids.add(node.task.getUUID()));
+        watched.add(range);
+        return range;
+    }
+
+    /**
+     * Starts keeping track of every event
+     */
+    public Range watchEvents() {
+        return watch(null, null, true);
+    }
+
+    /**
+     * Stops keeping the range up to date. Does nothing if the range is null or isn't watched.
+     */
+    public void unwatch(Range range) {
+        watched.remove(range);
+    }
+
+    void add(ImmutableTask task) {
+        LocalDateTime startTime = task.getStartTime().orElse(null);
+        LocalDateTime endTime = task.getEndTime().orElse(startTime);
+        if (endTime == null) {
+            return;
+        }
+
+        long end = TaskColumns.toColumnTime(endTime);
+        long start = startTime == null ? end : Math.min(TaskColumns.toColumnTime(startTime), end);
+        Node node = new Node(task, start, end, task.isEvent(), random.nextInt());
+        nodes.put(task.getUUID(), node);
+        if (node.isEvent) {
+            events = insert(events, node);
+        } else {
+            deadlines = insert(deadlines, node);
+        }
+
+        for (Range range : watched) {
+            if (range.overlaps(node)) {
+                range.uuids.add(task.getUUID());
+            }
+        }
+    }
+
+    void remove(ImmutableTask task) {
+        Node node = nodes.remove(task.getUUID());
+        if (node == null) {
+            return;
+        }
+
+        if (node.isEvent) {
+            events = delete(events, node);
+        } else {
+            deadlines = delete(deadlines, node);
+        }
+
+        for (Range range : watched) {
+            range.uuids.remove(task.getUUID());
+        }
+    }
+
+    /**
+     * Moves the task to where its times now place it in the index
+     */
+    void update(ImmutableTask task) {
+        remove(task);
+        add(task);
+    }
+
+    private static Range toRange(LocalDateTime from, LocalDateTime to, boolean isEventsOnly) {
+        // Every time is less than NO_TIME, so a range open at the end stops just before it
+        return new Range(from == null ? Long.MIN_VALUE : TaskColumns.toColumnTime(from),
+            to == null ? TaskColumns.NO_TIME - 1 : TaskColumns.toColumnTime(to), isEventsOnly);
+    }
+
+    private void find(Range range, Consumer<Node> found) {
+        find(events, range, found);
+        if (!range.isEventsOnly) {
+            find(deadlines, range, found);
+        }
+    }
+
+    private static void find(Node node, Range range, Consumer<Node> found) {
+        // Nothing in this subtree ends after the range starts
+        if (node == null || node.maxEnd < range.from) {
+            return;
+        }
+
+        find(node.left, range, found);
+        // Neither this task nor any after it starts before the range ends
+        if (node.start > range.to) {
+            return;
+        }
+        if (range.overlaps(node)) {
+            found.accept(node);
+        }
+        find(node.right, range, found);
+    }
+
+    private static Node insert(Node root, Node node) {
+        if (root == null) {
+            return node;
+        }
+
+        if (root.compareTo(node.start, node.task.getUUID()) > 0) {
+            root.left = insert(root.left, node);
+            if (root.left.priority > root.priority) {
+                root = rotateRight(root);
+            }
+        } else {
+            root.right = insert(root.right, node);
+            if (root.right.priority > root.priority) {
+                root = rotateLeft(root);
+            }
+        }
+        root.updateMaxEnd();
+        return root;
+    }
+
+    private static Node delete(Node root, Node node) {
+        if (root == null) {
+            return null;
+        }
+
+        int compare = root.compareTo(node.start, node.task.getUUID());
+        if (compare > 0) {
+            root.left = delete(root.left, node);
+        } else if (compare < 0) {
+            root.right = delete(root.right, node);
+        } else {
+            return merge(root.left, root.right);
+        }
+        root.updateMaxEnd();
+        return root;
+    }
+
+    /**
+     * Joins two trees where every task in the left tree is before every task in the right
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        } else if (right == null) {
+            return left;
+        }
+
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.updateMaxEnd();
+            return left;
+        } else {
+            right.left = merge(left, right.left);
+            right.updateMaxEnd();
+            return right;
+        }
+    }
+
+    private static Node rotateRight(Node root) {
+        Node left = root.left;
+        root.left = left.right;
+        root.updateMaxEnd();
+        left.right = root;
+        left.updateMaxEnd();
+        return left;
+    }
+
+    private static Node rotateLeft(Node root) {
+        Node right = root.right;
+        root.right = right.left;
+        root.updateMaxEnd();
+        right.left = root;
+        right.updateMaxEnd();
+        return right;
+    }
+}
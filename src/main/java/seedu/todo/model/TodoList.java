@@ -1,7 +1,10 @@
 package seedu.todo.model;
 
 import com.google.common.collect.Lists;
-import javafx.collections.FXCollections;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.todo.commons.core.EventsCenter;
 import seedu.todo.commons.core.LogsCenter;
@@ -13,13 +16,27 @@ import seedu.todo.model.task.ImmutableTask;
 import seedu.todo.model.task.MutableTask;
 import seedu.todo.model.task.Task;
 import seedu.todo.model.task.ValidationTask;
+import seedu.todo.storage.ArchiveStorage;
+import seedu.todo.storage.CorruptTasksException;
+import seedu.todo.storage.IncrementalTodoListStorage;
 import seedu.todo.storage.MovableStorage;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -35,43 +52,313 @@ public class TodoList implements TodoListModel {
     private static final String FILE_NOT_FOUND_FORMAT = "%s does not seem to exist.";
     private static final String FILE_SAVE_ERROR_FORMAT = "Couldn't save file: %s";
     private static final String FILE_LOAD_ERROR_FORMAT = "The data file %s does not appear to be in the correct format";
+    private static final String ARCHIVE_SAVE_ERROR_FORMAT = "Couldn't save archive: %s";
+    private static final String ARCHIVE_LOAD_ERROR_FORMAT = "Couldn't load page %d of the archive in %s";
+    private static final int LOAD_BATCH_SIZE = 500;
 
-    private ObservableList<Task> tasks = FXCollections.observableArrayList(Task::getObservableProperties);
+    private TaskList tasks = new TaskList();
 
     private MovableStorage<ImmutableTodoList> storage;
 
+    /**
+     * The UUIDs of tasks that were added, changed or removed since the list was last saved,
+     * so that storage which supports it only has to write those tasks
+     */
+    private final Set<UUID> changedTasks = new HashSet<>();
+    private boolean isOrderChanged;
+
+    /**
+     * The number of batches that have been started but not ended. The todo list is only
+     * saved once the outermost batch ends.
+     */
+    private int batchDepth;
+
+    /**
+     * The archive completed tasks are moved into, or null if archiving is disabled. Archived
+     * tasks that were loaded are kept in {@link #tasks} so they can be displayed, but are
+     * tracked by the page they are stored in and left out of {@link #getTasks()}.
+     */
+    private final ArchiveStorage archive;
+    private final Map<UUID, Integer> archivedTasks = new HashMap<>();
+    private final Map<Integer, List<Task>> archivePages = new HashMap<>();
+    private final Set<Integer> loadedPages = new HashSet<>();
+    private final Set<Integer> changedPages = new HashSet<>();
+
+    /**
+     * When loading in the background, the read of the storage that has not been picked up yet,
+     * and then the tasks that still have to be added to {@link #tasks}. Both are null once
+     * every task is loaded.
+     */
+    private CompletableFuture<List<ImmutableTask>> pendingRead;
+    private ProgressiveLoad progressiveLoad;
+    private Executor fxExecutor;
+    private boolean isAddingLoadedTasks;
+    private final DoubleProperty loadProgress = new SimpleDoubleProperty(1);
+
     private static final Logger logger = LogsCenter.getLogger(TodoList.class);
     private static final EventsCenter events = EventsCenter.getInstance();
 
     public TodoList(MovableStorage<ImmutableTodoList> storage) {
+        this(storage, null);
+    }
+
+    public TodoList(MovableStorage<ImmutableTodoList> storage, ArchiveStorage archive) {
         this.storage = storage;
+        this.archive = archive;
+        tasks.addListener(this::trackChanges);
         
         try {
-            setTasks(storage.read().getTasks(), false);
-        } catch (FileNotFoundException e) {
-            logger.info("Data file not found. Will be starting with an empty TodoList");
+            setTasks(adoptTasks(readStorage()), false);
+        } catch (CorruptTasksException e) {
+            // The tasks that could be read are used, and the user is told about the rest
+            setTasks(adoptTasks(e.getTasks()), false);
+            raiseStorageEvent(e.getMessage(), e);
         } catch (DataConversionException e) {
             String message = String.format(FILE_LOAD_ERROR_FORMAT, storage.getLocation());
             raiseStorageEvent(message, e);
         }
     }
 
+    /**
+     * Creates a todo list that reads the storage in the background, so that it can be created
+     * without waiting for the read. Once the read is done the tasks are added in batches, starting
+     * with the pinned and most recently updated tasks, with each batch run by <code>fxExecutor</code>
+     * so that the UI stays responsive in between. Every method that changes the list waits for
+     * the remaining tasks to be added first, so a partially loaded list is never saved.
+     *
+     * @param loadExecutor  the executor the storage is read on
+     * @param fxExecutor    the executor for the thread the todo list is used on
+     */
+    public TodoList(MovableStorage<ImmutableTodoList> storage, ArchiveStorage archive,
+                    Executor loadExecutor, Executor fxExecutor) {
+        this.storage = storage;
+        this.archive = archive;
+        this.fxExecutor = fxExecutor;
+        tasks.addListener(this::trackChanges);
+
+        loadProgress.set(0);
+        pendingRead = CompletableFuture.supplyAsync(() -> {
+            try {
+                return readStorage();
+            } catch (DataConversionException e) {
+                throw new CompletionException(e);
+            }
+        }, loadExecutor);
+        pendingRead.whenComplete((result, e) -> fxExecutor.execute(this::startLoading));
+    }
+
+    private List<ImmutableTask> readStorage() throws DataConversionException {
+        try {
+            return storage.read().getTasks();
+        } catch (FileNotFoundException e) {
+            logger.info("Data file not found. Will be starting with an empty TodoList");
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Adds the first batch of tasks once the storage has been read
+     */
+    private void startLoading() {
+        if (pendingRead == null) {
+            // Already loaded by finishLoading()
+            return;
+        }
+
+        List<ImmutableTask> readTasks;
+        try {
+            readTasks = pendingRead.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof CorruptTasksException) {
+                CorruptTasksException cause = (CorruptTasksException) e.getCause();
+                raiseStorageEvent(cause.getMessage(), cause);
+                readTasks = cause.getTasks();
+            } else {
+                String message = String.format(FILE_LOAD_ERROR_FORMAT, storage.getLocation());
+                raiseStorageEvent(message, (Exception) e.getCause());
+                readTasks = Collections.emptyList();
+            }
+        }
+        pendingRead = null;
+
+        progressiveLoad = new ProgressiveLoad(readTasks);
+        addLoadedTasks(0, progressiveLoad.getFirstBatch());
+        updateLoadProgress();
+
+        if (progressiveLoad != null) {
+            fxExecutor.execute(this::loadNextBatch);
+        }
+    }
+
+    private void loadNextBatch() {
+        if (progressiveLoad == null) {
+            return;
+        }
+
+        progressiveLoad.loadNextBatch(LOAD_BATCH_SIZE, this::addLoadedTasks);
+        updateLoadProgress();
+
+        if (progressiveLoad != null) {
+            fxExecutor.execute(this::loadNextBatch);
+        }
+    }
+
+    private void addLoadedTasks(int position, List<ImmutableTask> loadedTasks) {
+        // Tasks that are being loaded are already in storage, so they are not changes
+        isAddingLoadedTasks = true;
+        try {
+            tasks.addAll(position, adoptTasks(loadedTasks));
+        } finally {
+            isAddingLoadedTasks = false;
+        }
+    }
+
+    private void updateLoadProgress() {
+        if (progressiveLoad.isDone()) {
+            progressiveLoad = null;
+            loadProgress.set(1);
+        } else {
+            loadProgress.set(progressiveLoad.getProgress());
+        }
+    }
+
+    @Override
+    public void finishLoading() {
+        if (pendingRead != null) {
+            startLoading();
+        }
+
+        if (progressiveLoad != null) {
+            progressiveLoad.loadNextBatch(Integer.MAX_VALUE, this::addLoadedTasks);
+            updateLoadProgress();
+        }
+    }
+
+    @Override
+    public ReadOnlyDoubleProperty getLoadProgress() {
+        return loadProgress;
+    }
+
     private void raiseStorageEvent(String message, Exception e) {
         logger.severe("Data IO error - " + e.getClass().getSimpleName() + " | " + e.getMessage());
         events.post(new DataSavingExceptionEvent(message, e));
     }
     
+    private void trackChanges(ListChangeListener.Change<? extends Task> change) {
+        if (isAddingLoadedTasks) {
+            return;
+        }
+
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                isOrderChanged = true;
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    trackChange(tasks.get(i));
+                }
+            } else {
+                change.getRemoved().forEach(this::trackChange);
+                change.getAddedSubList().forEach(this::trackChange);
+            }
+        }
+    }
+
+    private void trackChange(Task task) {
+        // Archived tasks are saved separately, and only when they are moved into or out of the archive
+        if (!archivedTasks.containsKey(task.getUUID())) {
+            changedTasks.add(task.getUUID());
+        }
+    }
+
+    @Override
+    public int indexOf(UUID uuid) {
+        return tasks.indexOf(uuid);
+    }
+
+    @Override
+    public TaskColumns getColumns() {
+        return tasks.getColumns();
+    }
+
+    @Override
+    public TaskTimeIndex getTimeIndex() {
+        return tasks.getTimeIndex();
+    }
+
+    @Override
+    public Optional<ImmutableTask> getTask(UUID uuid) {
+        int index = indexOf(uuid);
+        return index == -1 ? Optional.empty() : Optional.of(tasks.get(index));
+    }
+
+    private void clearChanges() {
+        changedTasks.clear();
+        isOrderChanged = false;
+    }
+    
     private void saveTodoList() {
+        if (batchDepth > 0) {
+            return;
+        }
+
         try {
-            storage.save(this);
+            if (storage instanceof IncrementalTodoListStorage && !isOrderChanged) {
+                ((IncrementalTodoListStorage) storage).saveChanges(this, changedTasks);
+            } else {
+                storage.save(this);
+            }
+            clearChanges();
         } catch (IOException e) {
             String message = String.format(TodoList.FILE_SAVE_ERROR_FORMAT, e.getMessage());
             raiseStorageEvent(message, e);
         }
+
+        // Tasks restored from the archive are removed from their page only after the todo list
+        // containing them was saved, so a failure in between leaves a copy rather than losing them
+        saveArchivePages();
+    }
+
+    private void saveArchivePages() {
+        for (Integer page : changedPages) {
+            List<Task> pageTasks = archivePages.get(page);
+            try {
+                archive.savePage(page, pageTasks);
+                if (pageTasks.isEmpty()) {
+                    archivePages.remove(page);
+                }
+            } catch (IOException e) {
+                String message = String.format(TodoList.ARCHIVE_SAVE_ERROR_FORMAT, e.getMessage());
+                raiseStorageEvent(message, e);
+            }
+        }
+        changedPages.clear();
+    }
+
+    @Override
+    public void startBatch() {
+        finishLoading();
+        batchDepth++;
+        tasks.startBatch();
+    }
+
+    @Override
+    public void endBatch() {
+        assert batchDepth > 0;
+        batchDepth--;
+        tasks.endBatch();
+        saveTodoList();
+    }
+
+    @Override
+    public void cancelBatch() {
+        assert batchDepth > 0;
+        batchDepth--;
+        tasks.endBatch();
     }
 
     @Override
     public ImmutableTask add(String title) {
+        finishLoading();
         Task task = new Task(title);
         tasks.add(task);
         saveTodoList();
@@ -80,6 +367,7 @@ public class TodoList implements TodoListModel {
 
     @Override
     public ImmutableTask add(String title, Consumer<MutableTask> update) throws ValidationException {
+        finishLoading();
         ValidationTask validationTask = new ValidationTask(title);
         update.accept(validationTask);
         Task task = validationTask.convertToTask();
@@ -90,14 +378,21 @@ public class TodoList implements TodoListModel {
 
     @Override
     public List<ImmutableTask> delete(List<Integer> indexes) throws ValidationException {
-        List<ImmutableTask> tasksRemoved = new ArrayList<>();  
-        for (Integer index : indexes) {
-            ImmutableTask task = tasks.get(index);
-            tasksRemoved.add(task);
+        startBatch();
+        try {
+            List<ImmutableTask> tasksRemoved = new ArrayList<>();  
+            BitSet positions = new BitSet(tasks.size());
+            for (Integer index : indexes) {
+                ImmutableTask task = tasks.get(index);
+                restoreFromArchive(task);
+                tasksRemoved.add(task);
+                positions.set(index);
+            }
+            tasks.removeAll(positions);
+            return tasksRemoved;
+        } finally {
+            endBatch();
         }
-        tasks.removeAll(tasksRemoved);
-        saveTodoList();
-        return tasksRemoved;
     }
     
     public ImmutableTask delete(int index) throws ValidationException {
@@ -109,7 +404,8 @@ public class TodoList implements TodoListModel {
     //@@author A0092382A
     @Override
     public List<ImmutableTask> update(List<Integer> indexes, Consumer<MutableTask> update) throws ValidationException {
-        
+        finishLoading();
+
         for (Integer index : indexes) {
             MutableTask task = tasks.get(index);
             ValidationTask validationTask = new ValidationTask(task);
@@ -118,14 +414,19 @@ public class TodoList implements TodoListModel {
         }
         
         //All updates are validated so second for loop carries out actual updates
-        List<ImmutableTask> tasksUpdated = new ArrayList<>();
-        for (Integer index : indexes) {
-            MutableTask task = tasks.get(index);
-            tasksUpdated.add(task);
-            update.accept(task);
+        startBatch();
+        try {
+            List<ImmutableTask> tasksUpdated = new ArrayList<>();
+            for (Integer index : indexes) {
+                Task task = tasks.get(index);
+                restoreFromArchive(task);
+                tasksUpdated.add(task);
+                task.edit(update);
+            }
+            return tasksUpdated;
+        } finally {
+            endBatch();
         }
-        saveTodoList();
-        return tasksUpdated;
     }
     
     @Override
@@ -138,32 +439,58 @@ public class TodoList implements TodoListModel {
     //@@author A0135805H
     @Override
     public void updateAll(Consumer<MutableTask> update) throws ValidationException {
+        finishLoading();
+
+        //Archived tasks are left as they are
+        List<Task> hotTasks = getHotTasks();
+
         //Perform one round of validation first.
-        for (MutableTask task : tasks) {
+        for (MutableTask task : hotTasks) {
             ValidationTask validationTask = new ValidationTask(task);
             update.accept(validationTask);
             validationTask.validate();
         }
 
         //When there is no errors, actually do it.
-        tasks.forEach(update::accept);
+        startBatch();
+        try {
+            hotTasks.forEach(task -> task.edit(update));
+        } finally {
+            endBatch();
+        }
     }
 
     //@@author A0135817B
     @Override
     public void save(String location) throws ValidationException {
+        finishLoading();
         try {
             storage.save(this, location);
+            clearChanges();
         } catch (IOException e) {
             String message = String.format(TodoList.FILE_SAVE_ERROR_FORMAT, e.getMessage());
             throw new ValidationException(message);
         }
+
+        if (archive != null) {
+            try {
+                archive.moveTo(location);
+            } catch (IOException e) {
+                logger.warning("Archive was not moved and remains at " + archive.getLocation()
+                    + ": " + e.getMessage());
+            }
+        }
     }
 
     @Override
     public void load(String location) throws ValidationException {
+        finishLoading();
         try {
-            setTasks(storage.read(location).getTasks());
+            List<Task> loadedTasks = adoptTasks(storage.read(location).getTasks());
+            resetArchive();
+            setTasks(loadedTasks, true);
+        } catch (CorruptTasksException e) {
+            throw new ValidationException(e.getMessage());
         } catch (DataConversionException e) {
             throw new ValidationException(TodoList.INCORRECT_FILE_FORMAT_FORMAT);
         } catch (FileNotFoundException e) {
@@ -172,21 +499,114 @@ public class TodoList implements TodoListModel {
         }
     }
 
+    /**
+     * Drops the archived tasks that were loaded, for when the todo list is replaced by one they
+     * do not belong to. The pages already in the archive are left on disk but are not loaded
+     * into the new list.
+     */
+    private void resetArchive() {
+        if (archive == null) {
+            return;
+        }
+
+        saveArchivePages();
+        archivedTasks.clear();
+        archivePages.clear();
+        loadedPages.addAll(archive.getPages());
+    }
+
     @Override
     public void setTasks(List<ImmutableTask> todoList) {
-        setTasks(todoList, true);
+        setTasks(todoList.stream().map(Task::new).collect(Collectors.toList()), true);
+    }
+
+    /**
+     * Tasks read from storage are not shared with anything else, so those that are already
+     * {@link Task} objects are used directly instead of being copied again
+     */
+    private static List<Task> adoptTasks(List<ImmutableTask> readTasks) {
+        List<Task> adopted = new ArrayList<>(readTasks.size());
+        for (ImmutableTask task : readTasks) {
+            adopted.add(adoptTask(task));
+        }
+        return adopted;
+    }
+
+    private static Task adoptTask(ImmutableTask readTask) {
+        return readTask instanceof Task ? (Task) readTask : new Task(readTask);
     }
 
     /**
      * We have a private version of setTasks because we also need to setTask during initialization, 
      * but we don't want the list to be save during init (where we presumably got the data from)
      */
-    private void setTasks(List<ImmutableTask> todoList, boolean persistToStorage) {
-        this.tasks.clear();
-        this.tasks.addAll(todoList.stream().map(Task::new).collect(Collectors.toList()));
+    private void setTasks(List<Task> todoList, boolean persistToStorage) {
+        finishLoading();
+
+        // Loaded archived tasks stay loaded, unless the new list has its own copy of them
+        Set<ImmutableTask> newTasks = new HashSet<>(todoList);
+        List<Task> loadedArchivedTasks = new ArrayList<>();
+        for (Task task : tasks) {
+            if (newTasks.contains(task)) {
+                restoreFromArchive(task);
+            } else if (archivedTasks.containsKey(task.getUUID())) {
+                loadedArchivedTasks.add(task);
+            }
+        }
+
+        List<Task> newList = new ArrayList<>(todoList);
+        newList.addAll(loadedArchivedTasks);
+        applyTasks(newList);
         
         if (persistToStorage) {
             saveTodoList();
+        } else {
+            clearChanges();
+        }
+    }
+
+    /**
+     * Changes {@link #tasks} to contain the same tasks as the new list, in the same order, by
+     * only adding, removing and updating the tasks that are different. Tasks that are in both
+     * lists are updated in place, so views of the list only see the tasks that actually changed.
+     */
+    private void applyTasks(List<Task> newList) {
+        Map<UUID, Task> newTasks = new HashMap<>();
+        newList.forEach(task -> newTasks.put(task.getUUID(), task));
+
+        List<Task> removedTasks = tasks.stream()
+            .filter(task -> !newTasks.containsKey(task.getUUID()))
+            .collect(Collectors.toList());
+        if (!removedTasks.isEmpty()) {
+            tasks.removeAll(new HashSet<>(removedTasks));
+        }
+
+        Map<UUID, Task> keptTasks = new HashMap<>();
+        tasks.forEach(task -> keptTasks.put(task.getUUID(), task));
+
+        int i = 0;
+        while (i < newList.size()) {
+            Task existing = keptTasks.get(newList.get(i).getUUID());
+
+            if (existing == null) {
+                // Add each run of new tasks at once
+                int end = i + 1;
+                while (end < newList.size() && !keptTasks.containsKey(newList.get(end).getUUID())) {
+                    end++;
+                }
+                tasks.addAll(i, newList.subList(i, end));
+                i = end;
+                continue;
+            }
+
+            if (tasks.get(i) != existing) {
+                // Moving a task is slow, but tasks are rarely reordered between versions of the list
+                tasks.remove(existing);
+                tasks.add(i, existing);
+                isOrderChanged = true;
+            }
+            existing.updateFrom(newList.get(i));
+            i++;
         }
     }
 
@@ -197,6 +617,113 @@ public class TodoList implements TodoListModel {
 
     @Override
     public List<ImmutableTask> getTasks() {
-        return Collections.unmodifiableList(tasks);
+        return Collections.unmodifiableList(getHotTasks());
+    }
+
+    /**
+     * Returns the tasks that are not archived
+     */
+    private List<Task> getHotTasks() {
+        if (archivedTasks.isEmpty()) {
+            return tasks;
+        }
+
+        return tasks.stream()
+            .filter(task -> !archivedTasks.containsKey(task.getUUID()))
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<ImmutableTask> archiveCompletedTasks(LocalDateTime before) {
+        if (archive == null) {
+            return Collections.emptyList();
+        }
+        finishLoading();
+
+        List<Task> oldTasks = getHotTasks().stream()
+            .filter(task -> task.isCompleted() && task.getCreatedAt().isBefore(before))
+            .collect(Collectors.toList());
+        if (oldTasks.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // Write the archive first, so that a failure leaves the tasks in the todo list
+        try {
+            for (int i = 0; i < oldTasks.size(); i += ArchiveStorage.PAGE_SIZE) {
+                archive.addPage(oldTasks.subList(i, Math.min(i + ArchiveStorage.PAGE_SIZE, oldTasks.size())));
+            }
+        } catch (IOException e) {
+            String message = String.format(TodoList.ARCHIVE_SAVE_ERROR_FORMAT, e.getMessage());
+            raiseStorageEvent(message, e);
+            return Collections.emptyList();
+        }
+
+        logger.info("Archived " + oldTasks.size() + " completed tasks to " + archive.getLocation());
+        tasks.removeAll(new HashSet<>(oldTasks));
+        saveTodoList();
+        return Collections.unmodifiableList(oldTasks);
+    }
+
+    @Override
+    public boolean loadArchivePage() {
+        if (archive == null) {
+            return false;
+        }
+        finishLoading();
+
+        Integer page = archive.getPages().stream()
+            .filter(p -> !loadedPages.contains(p))
+            .findFirst().orElse(null);
+        if (page == null) {
+            return false;
+        }
+        loadedPages.add(page);
+
+        List<ImmutableTask> archived;
+        try {
+            archived = archive.readPage(page);
+        } catch (DataConversionException | FileNotFoundException e) {
+            String message = String.format(TodoList.ARCHIVE_LOAD_ERROR_FORMAT, page, archive.getLocation());
+            raiseStorageEvent(message, e);
+            return true;
+        }
+
+        // If a task is both in the todo list and the archive, the copy in the todo list wins,
+        // since it can only be there if it was restored from the archive
+        Set<ImmutableTask> existingTasks = new HashSet<>(tasks);
+        List<Task> pageTasks = new ArrayList<>();
+        for (ImmutableTask task : archived) {
+            if (existingTasks.contains(task)) {
+                changedPages.add(page);
+            } else {
+                pageTasks.add(adoptTask(task));
+                archivedTasks.put(task.getUUID(), page);
+            }
+        }
+
+        archivePages.put(page, pageTasks);
+        tasks.addAll(pageTasks);
+        saveArchivePages();
+        return true;
+    }
+
+    @Override
+    public void loadArchive() {
+        while (loadArchivePage()) {
+            // Keep loading until there are no more pages
+        }
+    }
+
+    @Override
+    public boolean restoreFromArchive(ImmutableTask task) {
+        Integer page = archivedTasks.remove(task.getUUID());
+        if (page == null) {
+            return false;
+        }
+
+        archivePages.get(page).remove(task);
+        changedPages.add(page);
+        changedTasks.add(task.getUUID());
+        return true;
     }
 }
@@ -1,8 +1,12 @@
 package seedu.todo.model;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.function.Consumer;
 
+import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.collections.ObservableList;
 import seedu.todo.commons.exceptions.IllegalValueException;
 import seedu.todo.commons.exceptions.ValidationException;
@@ -87,6 +91,26 @@ public interface TodoListModel extends ImmutableTodoList {
     
     ImmutableTask update(int index, Consumer<MutableTask> update) throws ValidationException;
 
+    /**
+     * Starts a batch of changes, which must be ended by {@link #endBatch()} or {@link #cancelBatch()}.
+     * Until the batch ends, the changes are not saved, and {@link #getObservableList()} holds back
+     * its change notifications, so that they are all reported as one change when the batch ends.
+     * Batches can be nested, in which case the changes are saved and reported when the
+     * outermost batch ends.
+     */
+    void startBatch();
+
+    /**
+     * Ends a batch of changes started by {@link #startBatch()}, saving the changes made in it
+     */
+    void endBatch();
+
+    /**
+     * Ends a batch of changes started by {@link #startBatch()} without saving the changes made
+     * in it, for when they are about to be reverted. They are saved with the next change.
+     */
+    void cancelBatch();
+
     //@@author A0135805H
     /**
      * Updates every single task, visible and non-visible, that are found inside the {@link TodoListModel}.
@@ -117,5 +141,71 @@ public interface TodoListModel extends ImmutableTodoList {
      */
     ObservableList<ImmutableTask> getObservableList();
 
+    /**
+     * Gets the position of the task with the given UUID in {@link #getObservableList()} in
+     * amortized constant time, or -1 if there is no such task. The first lookup after the list
+     * changed takes time proportional to the number of tasks after the change.
+     */
+    int indexOf(UUID uuid);
+
+    /**
+     * Gets the task with the given UUID from {@link #getObservableList()} in the same time
+     * as {@link #indexOf(UUID)}
+     */
+    Optional<ImmutableTask> getTask(UUID uuid);
+
+    /**
+     * Gets the fields of the tasks in {@link #getObservableList()} stored by column, for
+     * filtering and sorting the tasks quickly. The columns are kept up to date as the list changes.
+     */
+    TaskColumns getColumns();
+
+    /**
+     * Gets the index of the tasks in {@link #getObservableList()} by time, for finding the
+     * tasks in a time range quickly. The index is kept up to date as the list changes.
+     */
+    TaskTimeIndex getTimeIndex();
+
+    /**
+     * Gets the fraction of the tasks in storage that have been loaded into the list so far,
+     * which is 1 once every task is loaded
+     */
+    ReadOnlyDoubleProperty getLoadProgress();
+
+    /**
+     * Loads every task that has not been loaded yet right away, waiting for storage to be
+     * read if needed. Does nothing if the list is already fully loaded.
+     */
+    void finishLoading();
+
+    /**
+     * Moves completed tasks that were last updated before the given time out of the
+     * todo list and into the archive. Archived tasks are not returned by {@link #getTasks()}
+     * and do not appear in {@link #getObservableList()} until they are loaded back.
+     *
+     * @return the tasks that were archived
+     */
+    List<ImmutableTask> archiveCompletedTasks(LocalDateTime before);
+
+    /**
+     * Adds the next page of the most recently archived tasks that have not been loaded yet
+     * to {@link #getObservableList()}. They remain archived until they are changed.
+     *
+     * @return false if there were no more pages to load
+     */
+    boolean loadArchivePage();
+
+    /**
+     * Adds every archived task that has not been loaded yet to {@link #getObservableList()}
+     */
+    void loadArchive();
+
+    /**
+     * Moves a loaded archived task back into the todo list, so that it is returned by
+     * {@link #getTasks()} again. Does nothing if the task is not archived.
+     *
+     * @return true if the task was archived
+     */
+    boolean restoreFromArchive(ImmutableTask task);
 }
 
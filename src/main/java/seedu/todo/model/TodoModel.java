@@ -1,11 +1,16 @@
 package seedu.todo.model;
 
+import javafx.beans.binding.Bindings;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableIntegerValue;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
-import seedu.todo.commons.core.Config;
 import seedu.todo.model.property.TaskViewFilter;
 import seedu.todo.commons.core.UnmodifiableObservableList;
 import seedu.todo.commons.exceptions.IllegalValueException;
@@ -17,20 +22,22 @@ import seedu.todo.model.property.SearchStatus;
 import seedu.todo.model.tag.UniqueTagCollectionValidator;
 import seedu.todo.model.task.ImmutableTask;
 import seedu.todo.model.task.MutableTask;
-import seedu.todo.model.task.Task;
 import seedu.todo.storage.MovableStorage;
-import seedu.todo.storage.TodoListStorage;
+import seedu.todo.storage.UndoLogStorage;
 
-import java.util.ArrayDeque;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Deque;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 //@@author A0135817B
 /**
@@ -42,7 +49,6 @@ import java.util.stream.Collectors;
  */
 public class TodoModel implements Model {
     // Constants 
-    private static final int UNDO_LIMIT = 10;
     private static final String INDEX_OUT_OF_BOUND_FORMAT = "There is no task no. %d";
     private static final String NO_MORE_UNDO_REDO_FORMAT = "There are no more steps to %s";
     
@@ -51,15 +57,19 @@ public class TodoModel implements Model {
     private UniqueTagCollectionModel uniqueTagCollection;
     private MovableStorage<ImmutableTodoList> storage;
     
-    // Stack of transformation that the tasks go through before being displayed to the user
+    // Stack of transformation that the tasks go through before being displayed to the user.
+    // Each view in TaskViewFilter.all() keeps its own filtered and sorted list of tasks up to
+    // date as the tasks change, so switching views only switches viewTasks to another list.
+    // Any other view is only kept up to date while it is shown, through customViewSource.
     private ObservableList<ImmutableTask> tasks;
-    private FilteredList<ImmutableTask> viewFilteredTasks;
+    private final Map<TaskViewFilter, ViewTasks> views = new HashMap<>();
+    private ViewTasks currentView;
+    private SwitchedList<ImmutableTask> customViewSource;
+    private SwitchedList<ImmutableTask> viewTasks;
     private FilteredList<ImmutableTask> findFilteredTasks;
-    private SortedList<ImmutableTask> sortedTasks;
     
-    // State stacks for managing un/redo
-    private Deque<List<ImmutableTask>> undoStack = new ArrayDeque<>();
-    private Deque<List<ImmutableTask>> redoStack = new ArrayDeque<>();
+    // The changes made by each command, for managing un/redo
+    private final UndoHistory history = new UndoHistory(UndoHistory.DEFAULT_MEMORY_BUDGET);
 
     /**
      * Contains the current view tab the user has selected. 
@@ -69,43 +79,177 @@ public class TodoModel implements Model {
     
     private ObjectProperty<SearchStatus> search = new SimpleObjectProperty<>();
 
-    public TodoModel(Config config) {
-        this(new TodoListStorage(config.getTodoListFilePath()));
+    /**
+     * The range of the time index used by {@link #during}, which is stopped from being kept
+     * up to date once it is replaced
+     */
+    private TaskTimeIndex.Range findRange;
+
+    /**
+     * Set once the first page of archived tasks has been loaded for the completed view
+     */
+    private boolean isArchiveShown;
+
+    /**
+     * The tasks in a view, as filtered and then sorted by the view
+     */
+    private static class ViewTasks {
+        final FilteredList<ImmutableTask> filtered;
+        final SortedList<ImmutableTask> sorted;
+        final TaskTimeIndex.Range range;
+
+        ViewTasks(FilteredList<ImmutableTask> filtered, Comparator<ImmutableTask> sort, TaskTimeIndex.Range range) {
+            this.filtered = filtered;
+            this.sorted = new SortedList<>(filtered, sort);
+            this.range = range;
+        }
     }
-    
+
+    /**
+     * True while the changes of a {@link #batch(BatchUpdate)} are being made
+     */
+    private boolean isInBatch;
+
+    /**
+     * Sets up a {@link TodoModel} with settings other than the defaults, such as archiving
+     * and a persistent undo history. Any setting that is not set keeps its default.
+     */
+    public static class Builder {
+        private final TodoListModel todoList;
+        private final MovableStorage<ImmutableTodoList> storage;
+        private int archiveAfterDays;
+        private long undoMemoryBudget = UndoHistory.DEFAULT_MEMORY_BUDGET;
+        private UndoLogStorage undoLog;
+
+        public Builder(TodoListModel todoList, MovableStorage<ImmutableTodoList> storage) {
+            this.todoList = todoList;
+            this.storage = storage;
+        }
+
+        /**
+         * Moves completed tasks last updated more than <code>archiveAfterDays</code> days ago
+         * into the archive once the todo list is loaded. Archiving is disabled if
+         * <code>archiveAfterDays</code> is zero or less, which is the default.
+         */
+        public Builder archiveAfterDays(int archiveAfterDays) {
+            this.archiveAfterDays = archiveAfterDays;
+            return this;
+        }
+
+        /**
+         * Limits the undo history to about <code>undoMemoryBudgetKb</code> kilobytes of memory
+         */
+        public Builder undoMemoryBudgetKb(int undoMemoryBudgetKb) {
+            this.undoMemoryBudget = undoMemoryBudgetKb * 1024L;
+            return this;
+        }
+
+        /**
+         * Keeps the undo history in <code>undoLog</code>, so it is still available after a restart
+         */
+        public Builder undoLog(UndoLogStorage undoLog) {
+            this.undoLog = undoLog;
+            return this;
+        }
+
+        public TodoModel build() {
+            return new TodoModel(this);
+        }
+    }
+
     public TodoModel(MovableStorage<ImmutableTodoList> storage) {
         this(new TodoList(storage), storage);
     }
-    
+
     public TodoModel(TodoListModel todoList, MovableStorage<ImmutableTodoList> storage) {
-        this.storage = storage;
-        this.todoList = todoList;
+        this(new Builder(todoList, storage));
+    }
+
+    private TodoModel(Builder builder) {
+        this.storage = builder.storage;
+        this.todoList = builder.todoList;
+        history.setMemoryBudget(builder.undoMemoryBudget);
+        if (builder.undoLog != null) {
+            history.setLog(builder.undoLog);
+        }
 
         tasks = todoList.getObservableList();
-        viewFilteredTasks = new FilteredList<>(tasks);
-        findFilteredTasks = new FilteredList<>(viewFilteredTasks);
-        sortedTasks = new SortedList<>(findFilteredTasks);
+        viewTasks = new SwitchedList<>();
+        findFilteredTasks = new FilteredList<>(viewTasks);
+        for (TaskViewFilter view : TaskViewFilter.all()) {
+            views.put(view, createViewTasks(view, tasks));
+        }
+        tasks.addListener(history::onChanged);
 
+        // The tags are collected again once tasks still loading in the background are added
         uniqueTagCollection = new UniqueTagCollection(todoList.getTasks());
+        if (!isLoaded()) {
+            whenLoaded(() -> uniqueTagCollection.update(todoList.getTasks()));
+        }
         
         // Sets the default view 
         view(TaskViewFilter.DEFAULT);
+
+        int archiveAfterDays = builder.archiveAfterDays;
+        if (archiveAfterDays > 0) {
+            whenLoaded(() -> {
+                todoList.archiveCompletedTasks(LocalDateTime.now().minusDays(archiveAfterDays));
+                uniqueTagCollection.update(todoList.getTasks());
+            });
+        }
+    }
+
+    private boolean isLoaded() {
+        return todoList.getLoadProgress().get() >= 1;
+    }
+
+    /**
+     * Runs the action once every task has been loaded into the todo list,
+     * or right away if they already are
+     */
+    private void whenLoaded(Runnable action) {
+        if (isLoaded()) {
+            action.run();
+            return;
+        }
+
+        ReadOnlyDoubleProperty progress = todoList.getLoadProgress();
+        progress.addListener(new ChangeListener<Number>() {
+            @Override
+            public void changed(ObservableValue<? extends Number> observable, Number oldValue, Number newValue) {
+                if (newValue.doubleValue() >= 1) {
+                    progress.removeListener(this);
+                    action.run();
+                }
+            }
+        });
     }
 
     /**
      * Because the model does filtering and sorting on the tasks, the incoming index needs to be 
-     * translated into it's index in the underlying todoList. The code below is not particularly
-     * clean, but it works well enough. 
+     * translated into it's index in the underlying todoList. Each list in the stack of
+     * transformations already keeps the position of its items in its source list, so the index
+     * is translated by going down the stack one list at a time, which takes constant time.
+     * Inside a batch, the index refers to the tasks as they were displayed before the batch.
      * 
      * @throws ValidationException if the index is invalid
      */
     private int getTaskIndex(int index) throws ValidationException {
-        int taskIndex;
-        try {
-            ImmutableTask task = getObservableList().get(index - 1);
-            taskIndex = tasks.indexOf(task);
-        } catch (IndexOutOfBoundsException e) {
-            taskIndex = -1;
+        if (index < 1 || index > findFilteredTasks.size()) {
+            String message = String.format(TodoModel.INDEX_OUT_OF_BOUND_FORMAT, index);
+            throw new ValidationException(message);
+        }
+
+        // The view tasks are in the same order as the sorted tasks of the current view
+        ImmutableTask task = findFilteredTasks.get(index - 1);
+        int sortedIndex = findFilteredTasks.getSourceIndex(index - 1);
+        int viewFilteredIndex = currentView.sorted.getSourceIndex(sortedIndex);
+        int taskIndex = currentView.filtered.getSourceIndex(viewFilteredIndex);
+
+        // Inside a batch the displayed tasks are not updated until the batch ends, so the
+        // task may have moved since, in which case it is found by its UUID instead
+        if (taskIndex >= tasks.size() || tasks.get(taskIndex) != task) {
+            taskIndex = todoList.indexOf(task.getUUID());
         }
         if (taskIndex == -1) {
             String message = String.format(TodoModel.INDEX_OUT_OF_BOUND_FORMAT, index);
@@ -115,92 +259,307 @@ public class TodoModel implements Model {
         return taskIndex;
     }
     
-    private void saveState(Deque<List<ImmutableTask>> stack) {
-        List<ImmutableTask> tasks = todoList.getTasks().stream()
-            .map(Task::new).collect(Collectors.toList());
-        
-        stack.addFirst(tasks);
-        while (stack.size() > TodoModel.UNDO_LIMIT) {
-            stack.removeLast();
+    /**
+     * Starts recording the changes made to the todo list as an undo step, which must be ended
+     * by {@link #endUndoStep()} once the change is done, even if it fails. Changes started while
+     * another is in progress, such as tags added to a task while it is being added, are part
+     * of the same step.
+     */
+    private void startUndoStep() {
+        // Tasks that are still loading are not changes, so they are all added before any change
+        todoList.finishLoading();
+        history.startStep(todoList::getTasks);
+    }
+
+    private void endUndoStep() {
+        history.finishStep();
+    }
+
+    /**
+     * Moves the archived tasks among the displayed tasks back into the todo list before they
+     * are changed. This has to happen before the undo state is saved, since only tasks in the
+     * todo list are part of it, so that undoing the change restores the tasks as they were.
+     * Invalid indexes are ignored, since the command will fail on them anyway.
+     */
+    private void restoreFromArchive(Collection<Integer> indexes) {
+        todoList.finishLoading();
+        List<ImmutableTask> displayedTasks = getObservableList();
+        boolean isRestored = false;
+
+        for (int index : indexes) {
+            if (index >= 1 && index <= displayedTasks.size()) {
+                ImmutableTask task = displayedTasks.get(index - 1);
+                if (todoList.restoreFromArchive(task)) {
+                    history.addTask(task);
+                    isRestored = true;
+                }
+            }
+        }
+
+        if (isRestored) {
+            uniqueTagCollection.update(todoList.getTasks());
         }
     }
 
-    private void saveUndoState() {
-        saveState(undoStack);
-        redoStack.clear();
+    private void restoreFromArchive(int index) {
+        restoreFromArchive(Collections.singletonList(index));
     }
     
     @Override
     public ImmutableTask add(String title) throws IllegalValueException {
-        saveUndoState();
-        return todoList.add(title);
+        startUndoStep();
+        try {
+            return todoList.add(title);
+        } finally {
+            endUndoStep();
+        }
     }
 
     @Override
     public ImmutableTask add(String title, Consumer<MutableTask> update) throws ValidationException {
-        saveUndoState();
-        return todoList.add(title, update);
+        startUndoStep();
+        try {
+            return todoList.add(title, update);
+        } finally {
+            endUndoStep();
+        }
     }
     //@@author A0092382A
     @Override
     public ImmutableTask delete(int index) throws ValidationException {
-        saveUndoState();
-        int taskIndex = getTaskIndex(index);
-        ImmutableTask taskToDelete = tasks.get(taskIndex);
-        ImmutableTask taskDeleted = todoList.delete(taskIndex);
-        //Notification only sent if delete is valid
-        uniqueTagCollection.notifyTaskDeleted(taskToDelete);
-        return taskDeleted;
+        restoreFromArchive(index);
+        startUndoStep();
+        try {
+            int taskIndex = getTaskIndex(index);
+            ImmutableTask taskToDelete = tasks.get(taskIndex);
+            ImmutableTask taskDeleted = todoList.delete(taskIndex);
+            //Notification only sent if delete is valid
+            uniqueTagCollection.notifyTaskDeleted(taskToDelete);
+            return taskDeleted;
+        } finally {
+            endUndoStep();
+        }
     }
     
+    //@@author A0135817B
+    @Override
+    public void batch(BatchUpdate update) throws ValidationException {
+        if (isInBatch) {
+            update.accept(this);
+            return;
+        }
+
+        startUndoStep();
+        todoList.startBatch();
+        isInBatch = true;
+        boolean isDone = false;
+        try {
+            update.accept(this);
+            isDone = true;
+        } finally {
+            // Anything thrown, including errors, reverts the batch so the model is never left in it
+            isInBatch = false;
+            if (isDone) {
+                todoList.endBatch();
+                endUndoStep();
+            } else {
+                todoList.cancelBatch();
+                revertBatch();
+            }
+        }
+    }
+
+    /**
+     * Reverts the changes made in a batch that failed, without adding them to the undo history
+     */
+    private void revertBatch() {
+        UndoStep step = history.abortStep();
+        step.undoTags(uniqueTagCollection);
+        todoList.setTasks(step.undo(todoList.getTasks()));
+        history.markAborted(step);
+    }
+
+    //@@author A0092382A
     @Override
     public List<ImmutableTask> deleteAll() throws ValidationException{
-        saveUndoState();
-        List<Integer> indexes = new ArrayList<>();
-        for (int i = 1; i <= getObservableList().size(); i++) {
-            ImmutableTask task = getObservableList().get(i-1);
+        // Tasks still loading are added among the displayed tasks, which would move the
+        // indexes collected below, so they are all added first
+        todoList.finishLoading();
+        List<Integer> displayedIndexes = new ArrayList<>();
+        for (int i = 1; i <= findFilteredTasks.size(); i++) {
+            ImmutableTask task = findFilteredTasks.get(i-1);
             if (task.isCompleted()){
-                indexes.add(getTaskIndex(i));
+                displayedIndexes.add(i);
             }
         }
-        //Notification only sent if deletions are valid
-        List<ImmutableTask> deletedTasks = todoList.delete(indexes);
-        for (ImmutableTask task : deletedTasks) {
-            uniqueTagCollection.notifyTaskDeleted(task);
+        restoreFromArchive(displayedIndexes);
+        startUndoStep();
+        try {
+            List<Integer> indexes = new ArrayList<>();
+            for (int i : displayedIndexes) {
+                indexes.add(getTaskIndex(i));
+            }
+            //Notification only sent if deletions are valid
+            List<ImmutableTask> deletedTasks = todoList.delete(indexes);
+            for (ImmutableTask task : deletedTasks) {
+                uniqueTagCollection.notifyTaskDeleted(task);
+            }
+            return deletedTasks;
+        } finally {
+            endUndoStep();
         }
-        return deletedTasks;
-
     }
 
     @Override
     public ImmutableTask update(int index, Consumer<MutableTask> update) throws ValidationException {
-        saveUndoState();
-        int taskIndex = getTaskIndex(index);
-        return todoList.update(taskIndex, update);
+        restoreFromArchive(index);
+        startUndoStep();
+        try {
+            int taskIndex = getTaskIndex(index);
+            return todoList.update(taskIndex, update);
+        } finally {
+            endUndoStep();
+        }
     }
 
     @Override
     public List<ImmutableTask> updateAll(Consumer<MutableTask> update) throws ValidationException {
-        saveUndoState();
-        List<Integer> indexes = new ArrayList<>();
-        for (int i = 1; i <= getObservableList().size(); i++) {
-            indexes.add(getTaskIndex(i));
+        todoList.finishLoading();
+        List<Integer> displayedIndexes = new ArrayList<>();
+        for (int i = 1; i <= findFilteredTasks.size(); i++) {
+            displayedIndexes.add(i);
+        }
+        restoreFromArchive(displayedIndexes);
+        startUndoStep();
+        try {
+            List<Integer> indexes = new ArrayList<>();
+            for (int i : displayedIndexes) {
+                indexes.add(getTaskIndex(i));
+            }
+            return todoList.update(indexes, update);
+        } finally {
+            endUndoStep();
         }
-        return todoList.update(indexes, update);
     }
 
     //@@author A0135817B
     @Override
     public void view(TaskViewFilter view) {
-        viewFilteredTasks.setPredicate(view.filter);
-        sortedTasks.setComparator((a, b) -> {
-            int pin = Boolean.compare(b.isPinned(), a.isPinned());
-            return pin != 0 || view.sort == null ? pin : view.sort.compare(a, b);
-        });
+        // Archived tasks are all completed, so the most recently archived ones are loaded the
+        // first time the completed view is selected. Later pages are loaded only when asked for.
+        if (view == TaskViewFilter.COMPLETED && !isArchiveShown) {
+            isArchiveShown = true;
+            todoList.loadArchivePage();
+        }
+
+        // Views other than the built-in ones are filtered and sorted again each time, and the
+        // previous one stops following the tasks once it is no longer shown
+        ViewTasks previousView = currentView;
+        SwitchedList<ImmutableTask> previousSource = customViewSource;
+        customViewSource = null;
+        currentView = views.get(view);
+        if (currentView == null) {
+            customViewSource = new SwitchedList<>();
+            customViewSource.setSource(tasks);
+            currentView = createViewTasks(view, customViewSource);
+        }
+        viewTasks.setSource(currentView.sorted);
+
+        if (previousSource != null) {
+            previousSource.setSource(FXCollections.emptyObservableList());
+            todoList.getTimeIndex().unwatch(previousView.range);
+        }
         
         this.view.setValue(view);
     }
     
+    /**
+     * Creates the list of tasks in the view, which is kept up to date as the tasks change.
+     * Filters and sorts that can use the columns or the time index do, falling back to the
+     * tasks themselves for any task the columns don't have a row for yet.
+     */
+    private ViewTasks createViewTasks(TaskViewFilter view, ObservableList<ImmutableTask> source) {
+        TaskColumns columns = todoList.getColumns();
+        TaskTimeIndex.Range range = null;
+        Predicate<ImmutableTask> filter;
+        if (view.timeQuery != null) {
+            range = view.timeQuery.watch(todoList.getTimeIndex());
+            filter = range;
+        } else if (view.columnFilter == null) {
+            filter = view.filter;
+        } else {
+            filter = task -> {
+                int row = columns.rowOf(task);
+                return row == -1 ? view.filter.test(task) : view.columnFilter.test(columns, row);
+            };
+        }
+
+        return new ViewTasks(new FilteredList<>(source, filter), (a, b) -> {
+            int rowA = columns.rowOf(a);
+            int rowB = columns.rowOf(b);
+            if (rowA == -1 || rowB == -1) {
+                int pin = Boolean.compare(b.isPinned(), a.isPinned());
+                return pin != 0 || view.sort == null ? pin : view.sort.compare(a, b);
+            }
+
+            int pin = Boolean.compare(columns.isPinned(rowB), columns.isPinned(rowA));
+            if (pin != 0 || view.sort == null) {
+                return pin;
+            }
+            return view.columnSort == null ? view.sort.compare(a, b) : view.columnSort.compare(columns, rowA, rowB);
+        }, range);
+    }
+
+    @Override
+    public Predicate<ImmutableTask> taggedWith(Collection<String> tagNames) {
+        // The tag collection keeps the tasks of every tag, so the tasks that have the tags are
+        // found in time proportional to their number. The view still runs the predicate below
+        // on every task it holds, so a find by tag is linear in the size of the list, but each
+        // test is a lookup in a set or in the tag columns rather than a comparison of tag names.
+        Set<UUID> taggedTasks = new HashSet<>();
+        for (String tagName : tagNames) {
+            for (ImmutableTask task : uniqueTagCollection.getTasksLinkedToTag(tagName)) {
+                taggedTasks.add(task.getUUID());
+            }
+        }
+
+        // Tasks in the todo list are checked by the IDs of their tags instead, so that tasks given
+        // or stripped of the tags after the search are shown correctly. Looking up the IDs does not
+        // add tags that no task has had, which no task in the list can match anyway.
+        TaskColumns columns = todoList.getColumns();
+        int[] tagIds = tagNames.stream().mapToInt(columns::getTagId).filter(id -> id != -1).toArray();
+        if (taggedTasks.isEmpty() && tagIds.length == 0) {
+            return task -> false;
+        }
+
+        return task -> {
+            int row = columns.rowOf(task);
+            if (row == -1) {
+                return taggedTasks.contains(task.getUUID());
+            }
+
+            for (int tagId : tagIds) {
+                if (columns.hasTag(row, tagId)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    @Override
+    public ObservableIntegerValue getTaskCount(TaskViewFilter view) {
+        ViewTasks viewTasks = views.get(view);
+        if (viewTasks != null) {
+            return Bindings.size(viewTasks.filtered);
+        }
+
+        // Other views are not kept up to date, so their tasks are only counted when the count is
+        // read after the tasks have changed
+        return Bindings.createIntegerBinding(() -> view.filter == null ? tasks.size()
+            : (int) tasks.stream().filter(view.filter).count(), tasks);
+    }
+
     @Override
     public void find(Predicate<ImmutableTask> predicate) {
         findFilteredTasks.setPredicate(predicate);
@@ -209,44 +568,63 @@ public class TodoModel implements Model {
 
     @Override
     public void find(Predicate<ImmutableTask> predicate, List<String> terms) {
+        todoList.finishLoading();
+        todoList.loadArchive();
         findFilteredTasks.setPredicate(predicate);
         search.setValue(new SearchStatus(terms, findFilteredTasks.size(), tasks.size()));
     }
 
+    @Override
+    public Predicate<ImmutableTask> during(LocalDateTime from, LocalDateTime to) {
+        TaskTimeIndex timeIndex = todoList.getTimeIndex();
+        timeIndex.unwatch(findRange);
+        findRange = timeIndex.watch(from, to, false);
+        return findRange;
+    }
+
     @Override
     public void undo() throws ValidationException {
-        if (undoStack.isEmpty()) {
+        history.endStep();
+        history.readLog();
+        if (!history.canUndo()) {
             String message = String.format(TodoModel.NO_MORE_UNDO_REDO_FORMAT, "undo");
             throw new ValidationException(message);
         }
         
-        List<ImmutableTask> tasks = undoStack.removeFirst();
-        uniqueTagCollection.update(tasks);
-        saveState(redoStack);
-        todoList.setTasks(tasks);
+        UndoStep step = history.peekUndo();
+        step.undoTags(uniqueTagCollection);
+        todoList.setTasks(step.undo(todoList.getTasks()));
+        history.markUndone();
     }
 
     @Override
     public void redo() throws ValidationException {
-        if (redoStack.isEmpty()) {
+        history.endStep();
+        history.readLog();
+        if (!history.canRedo()) {
             String message = String.format(TodoModel.NO_MORE_UNDO_REDO_FORMAT, "redo");
             throw new ValidationException(message);
         }
 
-        List<ImmutableTask> tasks = redoStack.removeFirst();
-        uniqueTagCollection.update(tasks);
-        saveState(undoStack);
-        todoList.setTasks(tasks);
+        UndoStep step = history.peekRedo();
+        step.redoTags(uniqueTagCollection);
+        todoList.setTasks(step.redo(todoList.getTasks()));
+        history.markRedone();
     }
 
     @Override
     public void save(String location) throws ValidationException {
         todoList.save(location);
+        history.moveLog(location);
     }
 
     @Override
     public void load(String location) throws ValidationException {
         todoList.load(location);
+        // The steps in the history are changes to the tasks that were replaced, and the
+        // archived tasks that were loaded are dropped along with them
+        history.clear();
+        isArchiveShown = false;
         uniqueTagCollection.update(tasks);
     }
 
@@ -257,7 +635,7 @@ public class TodoModel implements Model {
 
     @Override
     public UnmodifiableObservableList<ImmutableTask> getObservableList() {
-        return new UnmodifiableObservableList<>(sortedTasks);
+        return new UnmodifiableObservableList<>(findFilteredTasks);
     }
 
     @Override
@@ -270,6 +648,17 @@ public class TodoModel implements Model {
         return search;
     }
 
+    @Override
+    public ReadOnlyDoubleProperty getLoadProgress() {
+        return todoList.getLoadProgress();
+    }
+
+    @Override
+    public boolean loadMoreArchived() {
+        isArchiveShown = true;
+        return todoList.loadArchivePage();
+    }
+
     //@@author A0135805H
     @Override
     public List<Tag> getGlobalTagsList() {
@@ -278,39 +667,51 @@ public class TodoModel implements Model {
 
     @Override
     public void addTagsToTask(int index, String... tagNames) throws ValidationException {
-        saveUndoState();
-        addTagsToTaskHelper(index, tagNames);
+        restoreFromArchive(index);
+        startUndoStep();
+        try {
+            addTagsToTaskHelper(index, tagNames);
+        } finally {
+            endUndoStep();
+        }
     }
 
     @Override
     public void addTagsToTask(MutableTask task, String... tagNames) {
-        saveUndoState();
-        //Do not perform validation (disallowed by Consumer interface). Perform actual tag adding.
-        addTagsToTaskHelper(task, tagNames);
+        startUndoStep();
+        try {
+            //Do not perform validation (disallowed by Consumer interface). Perform actual tag adding.
+            addTagsToTaskHelper(task, tagNames);
+        } finally {
+            endUndoStep();
+        }
     }
 
     @Override
     public void deleteTagsFromTask(int index, String... tagNames) throws ValidationException {
-        saveUndoState();
-        deleteTagsFromTaskHelper(index, tagNames);
+        restoreFromArchive(index);
+        startUndoStep();
+        try {
+            deleteTagsFromTaskHelper(index, tagNames);
+        } finally {
+            endUndoStep();
+        }
     }
 
     @Override
     public void deleteTags(String... tagNames) throws ValidationException {
-        saveUndoState();
-        deleteTagsHelper(tagNames);
+        batch(model -> deleteTagsHelper(tagNames));
     }
 
     @Override
     public void renameTag(String oldName, String newName) throws ValidationException {
-        saveUndoState();
-        renameTagHelper(oldName, newName);
+        batch(model -> renameTagHelper(oldName, newName));
     }
 
     @Override
     public void renameTag(int index, String oldName, String newName) throws ValidationException {
-        saveUndoState();
-        renameTagFromTaskHelper(index, oldName, newName);
+        restoreFromArchive(index);
+        batch(model -> renameTagFromTaskHelper(index, oldName, newName));
     }
 
     /**
@@ -393,11 +794,14 @@ public class TodoModel implements Model {
         Set<ImmutableTask> tasksWithTag = uniqueTagCollection.getTasksLinkedToTag(oldName);
         deleteTagsHelper(oldName);
 
-        todoList.updateAll(mutableTask -> {
-            if (tasksWithTag.contains(mutableTask)) {
-                addTagsToTaskHelper(mutableTask, newName);
+        List<Integer> indexes = new ArrayList<>();
+        for (ImmutableTask task : tasksWithTag) {
+            int index = todoList.indexOf(task.getUUID());
+            if (index != -1) {
+                indexes.add(index);
             }
-        });
+        }
+        todoList.update(indexes, mutableTask -> addTagsToTaskHelper(mutableTask, newName));
     }
 
     /**
@@ -0,0 +1,377 @@
+package seedu.todo.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import seedu.todo.commons.core.LogsCenter;
+import seedu.todo.commons.exceptions.DataConversionException;
+import seedu.todo.model.task.ImmutableTask;
+import seedu.todo.model.task.Task;
+import seedu.todo.storage.UndoLogStorage;
+
+//@@author A0135817B
+/**
+ * Records the changes each command makes to the todo list as an {@link UndoStep}. A step
+ * is started before a command changes the list, and every change to the list is collected
+ * into it until the step is finished. Steps started while another step is in progress are
+ * part of that step. Changes made while no step is in progress, such as loading the archive,
+ * are not recorded.
+ *
+ * To know what a task was like before it was changed, the history keeps a copy of every
+ * task in the todo list as of the end of the last step. Copies are only made of the tasks
+ * that changed, and are shared with the steps, so they are never modified.
+ *
+ * Steps are dropped starting from the oldest once the history uses more than its memory
+ * budget, but the most recent step is always kept.
+ *
+ * If the history has an {@link UndoLogStorage}, every step, undo and redo is also written
+ * to it. The steps from before the app was started are only read from the log the first
+ * time they could be needed, which is the first undo or redo.
+ */
+class UndoHistory {
+    static final long DEFAULT_MEMORY_BUDGET = 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(UndoHistory.class);
+
+    /**
+     * The tasks added, changed or removed since the last step was ended
+     */
+    private static class PendingChange {
+        ImmutableTask task;
+        boolean isPresent;
+        boolean isBeforePredecessorSet;
+        UUID beforePredecessor;
+        UUID afterPredecessor;
+    }
+
+    private final Deque<UndoStep> undoStack = new ArrayDeque<>();
+    private final Deque<UndoStep> redoStack = new ArrayDeque<>();
+    private long memoryBudget;
+    private long size;
+
+    /**
+     * Copies of the tasks in the todo list as of the end of the last step, or null
+     * before the first step is started
+     */
+    private Map<UUID, ImmutableTask> copies;
+    private final Map<UUID, PendingChange> pendingChanges = new LinkedHashMap<>();
+    private boolean isRecording;
+    private int depth;
+
+    private UndoLogStorage log;
+    private boolean isLogRead;
+
+    UndoHistory(long memoryBudget) {
+        this.memoryBudget = memoryBudget;
+    }
+
+    /**
+     * Writes the history to the log from now on. Old steps in the log are truncated in
+     * the background, but are otherwise not read until {@link #readLog()} is called.
+     */
+    void setLog(UndoLogStorage log) {
+        this.log = log;
+        log.truncate(memoryBudget);
+    }
+
+    /**
+     * Replaces the steps in memory with those in the log, which include the steps from
+     * before the app was started. This only happens the first time it is called.
+     */
+    void readLog() {
+        if (log == null || isLogRead) {
+            return;
+        }
+        isLogRead = true;
+
+        UndoLogStorage.History logHistory;
+        try {
+            logHistory = log.read();
+        } catch (DataConversionException e) {
+            logger.warning("Couldn't read the undo log at " + log.getLocation() + ": " + e.getMessage());
+            return;
+        }
+
+        undoStack.clear();
+        redoStack.clear();
+        size = 0;
+        for (UndoStep step : logHistory.getUndoSteps()) {
+            undoStack.addLast(step);
+            size += step.getSize();
+        }
+        for (UndoStep step : logHistory.getRedoSteps()) {
+            redoStack.addLast(step);
+            size += step.getSize();
+        }
+        dropOldSteps();
+    }
+
+    void moveLog(String todoListLocation) {
+        if (log != null) {
+            log.moveTo(todoListLocation);
+        }
+    }
+
+    void setMemoryBudget(long memoryBudget) {
+        this.memoryBudget = memoryBudget;
+        dropOldSteps();
+    }
+
+    /**
+     * Collects the changes to the todo list. This must be added as a listener to
+     * the list of every task in the todo list.
+     */
+    void onChanged(ListChangeListener.Change<? extends ImmutableTask> change) {
+        if (copies == null) {
+            return;
+        }
+
+        List<? extends ImmutableTask> list = change.getList();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+
+            if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    getPendingChange(list.get(i)).isPresent = true;
+                }
+                continue;
+            }
+
+            // The tasks in front of the removed tasks are the ones that are in the list now,
+            // since that's where the removed tasks would go back to
+            UUID predecessor = change.getFrom() > 0 ? list.get(change.getFrom() - 1).getUUID() : null;
+            for (ImmutableTask task : change.getRemoved()) {
+                PendingChange pending = getPendingChange(task);
+                pending.isPresent = false;
+                if (!pending.isBeforePredecessorSet) {
+                    pending.isBeforePredecessorSet = true;
+                    pending.beforePredecessor = predecessor;
+                }
+                predecessor = task.getUUID();
+            }
+
+            predecessor = change.getFrom() > 0 ? list.get(change.getFrom() - 1).getUUID() : null;
+            for (ImmutableTask task : change.getAddedSubList()) {
+                PendingChange pending = getPendingChange(task);
+                pending.isPresent = true;
+                pending.afterPredecessor = predecessor;
+                predecessor = task.getUUID();
+            }
+        }
+    }
+
+    private PendingChange getPendingChange(ImmutableTask task) {
+        PendingChange pending = pendingChanges.computeIfAbsent(task.getUUID(), uuid -> new PendingChange());
+        pending.task = task;
+        return pending;
+    }
+
+    /**
+     * Starts recording the changes of a command. Every call must be matched by a call to
+     * {@link #finishStep()}.
+     *
+     * @param tasks the tasks currently in the todo list, which are only used by the first step
+     */
+    void startStep(Supplier<List<ImmutableTask>> tasks) {
+        if (depth++ > 0) {
+            return;
+        }
+        endStep();
+
+        if (copies == null) {
+            copies = new HashMap<>();
+            tasks.get().forEach(task -> copies.put(task.getUUID(), new Task(task)));
+        }
+
+        isRecording = true;
+    }
+
+    /**
+     * Finishes recording the changes of a command. The step ends once every step
+     * started has been finished.
+     */
+    void finishStep() {
+        assert depth > 0;
+        if (--depth == 0) {
+            endStep();
+        }
+    }
+
+    /**
+     * Ends the current step, adding it to the undo history and clearing the redo history if
+     * the command changed anything. Changes made while no step is being recorded only update
+     * the copies of the tasks. This should be called before the todo list is changed without
+     * a step being started, so that the changes are not mistaken for those of a command.
+     */
+    void endStep() {
+        if (pendingChanges.isEmpty()) {
+            isRecording = false;
+            return;
+        }
+
+        List<UndoStep.Change> changes = collectChanges();
+        if (isRecording && !changes.isEmpty()) {
+            UndoStep step = new UndoStep(changes);
+            redoStack.forEach(redoStep -> size -= redoStep.getSize());
+            redoStack.clear();
+            undoStack.addFirst(step);
+            size += step.getSize();
+            dropOldSteps();
+
+            if (log != null) {
+                log.appendStep(step);
+            }
+        }
+        isRecording = false;
+    }
+
+    /**
+     * Ends the current step without adding it to the undo history, for when the changes made
+     * in it are about to be reverted. This is called instead of the {@link #finishStep()} that
+     * matches the outermost {@link #startStep(Supplier)}. Once the changes in the returned step
+     * are undone, {@link #markAborted(UndoStep)} must be called.
+     */
+    UndoStep abortStep() {
+        assert depth == 1;
+        depth = 0;
+        isRecording = false;
+        return new UndoStep(collectChanges());
+    }
+
+    void markAborted(UndoStep step) {
+        updateCopies(step, true);
+    }
+
+    /**
+     * Turns the pending changes into the changes of a step, and updates the copies of the
+     * tasks to match the todo list
+     */
+    private List<UndoStep.Change> collectChanges() {
+        List<UndoStep.Change> changes = new ArrayList<>();
+        pendingChanges.forEach((uuid, pending) -> {
+            ImmutableTask before = copies.get(uuid);
+            ImmutableTask after = pending.isPresent ? new Task(pending.task) : null;
+            if (before != null || after != null) {
+                changes.add(new UndoStep.Change(uuid, before, after,
+                    pending.beforePredecessor, pending.afterPredecessor));
+            }
+
+            if (after == null) {
+                copies.remove(uuid);
+            } else {
+                copies.put(uuid, after);
+            }
+        });
+        pendingChanges.clear();
+        return changes;
+    }
+
+    private void dropOldSteps() {
+        while (size > memoryBudget && undoStack.size() > 1) {
+            size -= undoStack.removeLast().getSize();
+        }
+    }
+
+    /**
+     * Updates the copy of a task that became part of the todo list without the list
+     * changing, such as a task restored from the archive
+     */
+    void addTask(ImmutableTask task) {
+        if (copies != null) {
+            copies.put(task.getUUID(), new Task(task));
+        }
+    }
+
+    boolean canUndo() {
+        return !undoStack.isEmpty();
+    }
+
+    boolean canRedo() {
+        return !redoStack.isEmpty();
+    }
+
+    /**
+     * Gets the step that should be undone next. Once it has been applied to the
+     * todo list, {@link #markUndone()} must be called.
+     */
+    UndoStep peekUndo() {
+        return undoStack.getFirst();
+    }
+
+    /**
+     * Gets the step that should be redone next. Once it has been applied to the
+     * todo list, {@link #markRedone()} must be called.
+     */
+    UndoStep peekRedo() {
+        return redoStack.getFirst();
+    }
+
+    void markUndone() {
+        UndoStep step = undoStack.removeFirst();
+        redoStack.addFirst(step);
+        updateCopies(step, true);
+
+        if (log != null) {
+            log.appendUndo();
+        }
+    }
+
+    void markRedone() {
+        UndoStep step = redoStack.removeFirst();
+        undoStack.addFirst(step);
+        updateCopies(step, false);
+
+        if (log != null) {
+            log.appendRedo();
+        }
+    }
+
+    /**
+     * The tasks in the todo list are now the same as the copies in the step, so those are used
+     * as the copies again instead of collecting the changes made when the step was applied
+     */
+    private void updateCopies(UndoStep step, boolean isUndo) {
+        pendingChanges.clear();
+        if (copies == null) {
+            // Only steps read from the log have been applied, so the copies will be made
+            // when the next step is started
+            return;
+        }
+
+        for (UndoStep.Change change : step.getChanges()) {
+            ImmutableTask task = isUndo ? change.before : change.after;
+            if (task == null) {
+                copies.remove(change.uuid);
+            } else {
+                copies.put(change.uuid, task);
+            }
+        }
+    }
+
+    /**
+     * Removes every step, for when the todo list is replaced
+     */
+    void clear() {
+        undoStack.clear();
+        redoStack.clear();
+        pendingChanges.clear();
+        copies = null;
+        size = 0;
+        isRecording = false;
+
+        if (log != null) {
+            log.appendClear();
+        }
+    }
+}
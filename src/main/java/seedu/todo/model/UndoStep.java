@@ -0,0 +1,249 @@
+package seedu.todo.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import seedu.todo.model.tag.Tag;
+import seedu.todo.model.tag.UniqueTagCollectionModel;
+import seedu.todo.model.task.ImmutableTask;
+
+//@@author A0135817B
+/**
+ * The changes a single command made to the todo list, which can be reverted and applied
+ * again. Only the tasks the command added, changed or deleted are recorded, each as a copy
+ * of the task before and after the command, so a step that changed one task costs about
+ * as much memory as two tasks no matter how long the todo list is.
+ */
+public class UndoStep {
+    /**
+     * Roughly the memory a copy of a task takes, not counting the text in it
+     */
+    private static final int ESTIMATED_TASK_SIZE = 640;
+    private static final int ESTIMATED_CHANGE_SIZE = 64;
+
+    /**
+     * A single task added, changed or deleted. Tasks that were added or deleted also
+     * record the task in front of them, so they can be put back in the same place.
+     */
+    public static class Change {
+        final UUID uuid;
+        final ImmutableTask before;
+        final ImmutableTask after;
+        final UUID beforePredecessor;
+        final UUID afterPredecessor;
+
+        public Change(UUID uuid, ImmutableTask before, ImmutableTask after,
+                      UUID beforePredecessor, UUID afterPredecessor) {
+            this.uuid = uuid;
+            this.before = before;
+            this.after = after;
+            this.beforePredecessor = beforePredecessor;
+            this.afterPredecessor = afterPredecessor;
+        }
+
+        public UUID getUUID() {
+            return uuid;
+        }
+
+        /**
+         * The task before the step, or empty if the step added it
+         */
+        public Optional<ImmutableTask> getBefore() {
+            return Optional.ofNullable(before);
+        }
+
+        /**
+         * The task after the step, or empty if the step deleted it
+         */
+        public Optional<ImmutableTask> getAfter() {
+            return Optional.ofNullable(after);
+        }
+
+        public Optional<UUID> getBeforePredecessor() {
+            return Optional.ofNullable(beforePredecessor);
+        }
+
+        public Optional<UUID> getAfterPredecessor() {
+            return Optional.ofNullable(afterPredecessor);
+        }
+    }
+
+    private final List<Change> changes;
+    private final long size;
+
+    public UndoStep(List<Change> changes) {
+        this.changes = Collections.unmodifiableList(changes);
+
+        long size = 0;
+        for (Change change : changes) {
+            size += ESTIMATED_CHANGE_SIZE + estimateSize(change.before) + estimateSize(change.after);
+        }
+        this.size = size;
+    }
+
+    private static long estimateSize(ImmutableTask task) {
+        if (task == null) {
+            return 0;
+        }
+
+        long textLength = task.getTitle().length()
+            + task.getDescription().map(String::length).orElse(0)
+            + task.getLocation().map(String::length).orElse(0);
+        return ESTIMATED_TASK_SIZE + textLength * 2;
+    }
+
+    public List<Change> getChanges() {
+        return changes;
+    }
+
+    /**
+     * The approximate amount of memory this step uses in bytes
+     */
+    long getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the tasks as they were before this step, given the tasks as they are after it
+     */
+    List<ImmutableTask> undo(List<ImmutableTask> tasks) {
+        return apply(tasks, true);
+    }
+
+    /**
+     * Returns the tasks as they are after this step, given the tasks as they were before it
+     */
+    List<ImmutableTask> redo(List<ImmutableTask> tasks) {
+        return apply(tasks, false);
+    }
+
+    /**
+     * Moves the tags of the changed tasks back to how they were before this step
+     */
+    void undoTags(UniqueTagCollectionModel tags) {
+        applyTags(tags, true);
+    }
+
+    /**
+     * Moves the tags of the changed tasks to how they are after this step
+     */
+    void redoTags(UniqueTagCollectionModel tags) {
+        applyTags(tags, false);
+    }
+
+    private void applyTags(UniqueTagCollectionModel tags, boolean isUndo) {
+        for (Change change : changes) {
+            ImmutableTask from = isUndo ? change.after : change.before;
+            ImmutableTask to = isUndo ? change.before : change.after;
+
+            if (from != null) {
+                tags.notifyTaskDeleted(from);
+            }
+            if (to != null && !to.getTags().isEmpty()) {
+                String[] tagNames = to.getTags().stream().map(Tag::getTagName).toArray(String[]::new);
+                tags.associateTaskToTags(to, tagNames);
+            }
+        }
+    }
+
+    private List<ImmutableTask> apply(List<ImmutableTask> tasks, boolean isUndo) {
+        List<ImmutableTask> result = new ArrayList<>(tasks);
+        Map<UUID, Integer> positions = new HashMap<>();
+        for (int i = 0; i < result.size(); i++) {
+            positions.put(result.get(i).getUUID(), i);
+        }
+
+        // Changed tasks are swapped in place first, since that does not move any other task
+        Set<UUID> removed = new HashSet<>();
+        for (Change change : changes) {
+            ImmutableTask from = isUndo ? change.after : change.before;
+            ImmutableTask to = isUndo ? change.before : change.after;
+            Integer position = positions.get(change.uuid);
+
+            if (from != null && position != null) {
+                if (to != null) {
+                    result.set(position, to);
+                } else {
+                    removed.add(change.uuid);
+                }
+            }
+        }
+        if (!removed.isEmpty()) {
+            result.removeIf(task -> removed.contains(task.getUUID()));
+        }
+
+        // Tasks are put back after the task that was in front of them, which may be another
+        // task being put back. They are grouped by that task so every task can be put back in
+        // a single walk through the list, instead of searching the list for each of them.
+        Map<UUID, List<ImmutableTask>> inserted = new HashMap<>();
+        List<UUID> predecessors = new ArrayList<>();
+        for (Change change : changes) {
+            ImmutableTask from = isUndo ? change.after : change.before;
+            ImmutableTask to = isUndo ? change.before : change.after;
+            if (from != null || to == null) {
+                continue;
+            }
+
+            UUID predecessor = isUndo ? change.beforePredecessor : change.afterPredecessor;
+            inserted.computeIfAbsent(predecessor, uuid -> new ArrayList<>()).add(to);
+            predecessors.add(predecessor);
+        }
+        if (inserted.isEmpty()) {
+            return result;
+        }
+
+        List<ImmutableTask> merged = new ArrayList<>(result.size() + predecessors.size());
+        addInserted(merged, inserted, null);
+        for (ImmutableTask task : result) {
+            merged.add(task);
+            addInserted(merged, inserted, task.getUUID());
+        }
+
+        // Tasks whose predecessor is no longer in the list go at the end
+        for (UUID predecessor : predecessors) {
+            addInserted(merged, inserted, predecessor);
+        }
+
+        return merged;
+    }
+
+    /**
+     * Adds the tasks put back after the task with the given UUID, each followed by the
+     * tasks put back after it in turn, so a run of tasks removed together keeps its order
+     */
+    private static void addInserted(List<ImmutableTask> merged, Map<UUID, List<ImmutableTask>> inserted,
+                                    UUID predecessor) {
+        List<ImmutableTask> following = inserted.remove(predecessor);
+        if (following == null) {
+            return;
+        }
+
+        // A long run of tasks forms a long chain, so this is not done recursively
+        Deque<Iterator<ImmutableTask>> pending = new ArrayDeque<>();
+        pending.push(following.iterator());
+        while (!pending.isEmpty()) {
+            Iterator<ImmutableTask> iterator = pending.peek();
+            if (!iterator.hasNext()) {
+                pending.pop();
+                continue;
+            }
+
+            ImmutableTask task = iterator.next();
+            merged.add(task);
+            following = inserted.remove(task.getUUID());
+            if (following != null) {
+                pending.push(following.iterator());
+            }
+        }
+    }
+}
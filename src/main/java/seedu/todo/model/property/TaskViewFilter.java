@@ -4,8 +4,13 @@ import com.google.common.collect.ComparisonChain;
 import com.google.common.collect.Ordering;
 
 import seedu.todo.commons.util.TimeUtil;
+import seedu.todo.model.TaskColumns;
+import seedu.todo.model.TaskColumns.RowComparator;
+import seedu.todo.model.TaskColumns.RowPredicate;
+import seedu.todo.model.TaskTimeIndex;
 import seedu.todo.model.task.ImmutableTask;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.function.Predicate;
@@ -28,24 +33,39 @@ public class TaskViewFilter {
     
     private static final Comparator<ImmutableTask> LAST_UPDATED = (a, b) -> 
         b.getCreatedAt().compareTo(a.getCreatedAt());
-    
+
+    //@@author A0135817B
+    private static final RowComparator CHRONOLOGICAL_COLUMNS = (columns, a, b) ->
+        Long.compare(columns.getEndTime(a), columns.getEndTime(b));
+
+    private static final RowComparator LAST_UPDATED_COLUMNS = (columns, a, b) ->
+        Long.compare(columns.getCreatedAt(b), columns.getCreatedAt(a));
+
+    //@@author A0092382A
     public static final TaskViewFilter DEFAULT = new TaskViewFilter("all",
-        null, LAST_UPDATED);
+        null, LAST_UPDATED, null, LAST_UPDATED_COLUMNS);
     
     public static final TaskViewFilter INCOMPLETE = new TaskViewFilter("incomplete",
-        task -> !task.isCompleted(), CHRONOLOGICAL);
+        task -> !task.isCompleted(), CHRONOLOGICAL, 
+        (columns, row) -> !columns.isCompleted(row), CHRONOLOGICAL_COLUMNS);
     
     public static final TaskViewFilter DUE_SOON = new TaskViewFilter("due soon", 
-        task -> !task.isCompleted() && !task.isEvent() && task.getEndTime().isPresent(), CHRONOLOGICAL);
+        task -> !task.isCompleted() && !task.isEvent() && task.getEndTime().isPresent(), CHRONOLOGICAL,
+        (columns, row) -> !columns.isCompleted(row) && !columns.isEvent(row)
+            && columns.getEndTime(row) != TaskColumns.NO_TIME,
+        CHRONOLOGICAL_COLUMNS);
     
     public static final TaskViewFilter EVENTS = new TaskViewFilter("events",
-        ImmutableTask::isEvent, CHRONOLOGICAL_EVENT);
+        ImmutableTask::isEvent, CHRONOLOGICAL_EVENT, TaskColumns::isEvent, null, TaskTimeIndex::watchEvents);
     
     public static final TaskViewFilter COMPLETED = new TaskViewFilter("completed",
-        ImmutableTask::isCompleted, LAST_UPDATED);
+        ImmutableTask::isCompleted, LAST_UPDATED, TaskColumns::isCompleted, LAST_UPDATED_COLUMNS);
     
     public static final TaskViewFilter TODAY = new TaskViewFilter("today",
-            task -> timeUtil.isToday(task) , CHRONOLOGICAL_EVENT);
+            task -> timeUtil.isToday(task) , CHRONOLOGICAL_EVENT, null, null, index -> {
+                LocalDate today = timeUtil.getToday();
+                return index.watch(today.atStartOfDay(), today.plusDays(1).atStartOfDay().minusNanos(1), false);
+            });
 
     public final String name;
     
@@ -55,16 +75,54 @@ public class TaskViewFilter {
     
     public final int shortcutCharPosition;
 
+    //@@author A0135817B
+    /**
+     * The same filter and sort as {@link #filter} and {@link #sort}, but evaluated against
+     * {@link TaskColumns}, which is faster. Either is null if it can only be evaluated against tasks.
+     */
+    public final RowPredicate columnFilter;
+
+    public final RowComparator columnSort;
+
+    /**
+     * Looks up the tasks matching {@link #filter} from the {@link TaskTimeIndex}, which is faster
+     * than both the filter and {@link #columnFilter}, or null if the filter isn't based on time
+     */
+    public final TaskTimeIndex.Query timeQuery;
+
+    //@@author A0092382A
     public TaskViewFilter(String name, Predicate<ImmutableTask> filter, Comparator<ImmutableTask> sort) {
         this(name, filter, sort, 0);
     }
 
     public TaskViewFilter(String name, Predicate<ImmutableTask> filter, Comparator<ImmutableTask> sort, int underlineCharPosition) {
+        this(name, filter, sort, underlineCharPosition, null, null, null);
+    }
+
+    //@@author A0135817B
+    private TaskViewFilter(String name, Predicate<ImmutableTask> filter, Comparator<ImmutableTask> sort,
+                           RowPredicate columnFilter, RowComparator columnSort) {
+        this(name, filter, sort, 0, columnFilter, columnSort, null);
+    }
+
+    private TaskViewFilter(String name, Predicate<ImmutableTask> filter, Comparator<ImmutableTask> sort,
+                           RowPredicate columnFilter, RowComparator columnSort, TaskTimeIndex.Query timeQuery) {
+        this(name, filter, sort, 0, columnFilter, columnSort, timeQuery);
+    }
+
+    private TaskViewFilter(String name, Predicate<ImmutableTask> filter, Comparator<ImmutableTask> sort,
+                           int underlineCharPosition, RowPredicate columnFilter, RowComparator columnSort,
+                           TaskTimeIndex.Query timeQuery) {
         this.name = name;
         this.filter = filter;
         this.sort = sort;
         this.shortcutCharPosition = underlineCharPosition;
+        this.columnFilter = columnFilter;
+        this.columnSort = columnSort;
+        this.timeQuery = timeQuery;
     }
+
+    //@@author A0092382A
     
     public static TaskViewFilter[] all() {
         return new TaskViewFilter[]{
@@ -16,7 +16,7 @@ import java.util.stream.Collectors;
 public class Tag {
     /* Variables */
     //Stores a unique tag name, that is alphanumeric, and contains dashes and underscores.
-    private String tagName;
+    private final String tagName;
 
     /**
      * Constructs a new tag with the given tag name.
@@ -1,5 +1,7 @@
 package seedu.todo.model.tag;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
 import seedu.todo.model.task.ImmutableTask;
 
 import java.util.Set;
@@ -27,6 +29,22 @@ public class UniqueTagCollection implements Iterable<Tag>, UniqueTagCollectionMo
     //Stores a list of tags with unique tag names.
     private final Map<Tag, Set<ImmutableTask>> uniqueTagsToTasksMap = new HashMap<>();
 
+    //@@author A0135817B
+    //Stores the same tags as uniqueTagsToTasksMap by their lowercase names, to look them up by name.
+    private final Map<String, Tag> tagsByName = new HashMap<>();
+
+    /*
+     * The shared instance of each tag name and each set of tag names, so that tasks with the same
+     * tags share one set of tags instead of each having their own. The instances are only kept
+     * while some task still has them.
+     */
+    private static final Map<String, Tag> internedTags =
+            CacheBuilder.newBuilder().weakValues().<String, Tag>build().asMap();
+    private static final Map<List<String>, Set<Tag>> internedTagSets =
+            CacheBuilder.newBuilder().weakValues().<List<String>, Set<Tag>>build().asMap();
+
+    //@@author A0135805H
+
     /* Constructor */
     /**
      * Constructs this tag collection
@@ -35,10 +53,40 @@ public class UniqueTagCollection implements Iterable<Tag>, UniqueTagCollectionMo
         update(globalTaskList);
     }
 
+    //@@author A0135817B
+    /* Interning Methods */
+    /**
+     * Gets the shared instance of the tag with exactly the name {@code tagName}.
+     * This is safe to call from any thread.
+     */
+    public static Tag intern(String tagName) {
+        return internedTags.computeIfAbsent(tagName, Tag::new);
+    }
+
+    /**
+     * Gets the shared immutable set of tags with exactly the same names as {@code tags}, made up
+     * of the shared instances of the tags. Tasks should store this instead of their own set.
+     * This is safe to call from any thread.
+     */
+    public static Set<Tag> intern(Collection<Tag> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return ImmutableSet.of();
+        }
+
+        List<String> names = tags.stream()
+                .map(Tag::getTagName)
+                .sorted()
+                .collect(Collectors.toList());
+        return internedTagSets.computeIfAbsent(names, key -> ImmutableSet.copyOf(
+                key.stream().map(UniqueTagCollection::intern).iterator()));
+    }
+
+    //@@author A0135805H
     /* Interfacing Methods */
     @Override
     public void update(List<ImmutableTask> globalTaskList) {
         uniqueTagsToTasksMap.clear();
+        tagsByName.clear();
         globalTaskList.forEach(task -> task.getTags().forEach(tag -> associateTaskToTag(task, tag)));
     }
 
@@ -72,7 +120,7 @@ public class UniqueTagCollection implements Iterable<Tag>, UniqueTagCollectionMo
         return Arrays.stream(tagNames)
                 .map(name -> {
                     Tag tag = getTagWithName(name);
-                    uniqueTagsToTasksMap.remove(tag);
+                    removeTag(tag);
                     return tag;
                 }).collect(Collectors.toSet());
     }
@@ -86,7 +134,7 @@ public class UniqueTagCollection implements Iterable<Tag>, UniqueTagCollectionMo
         Set<ImmutableTask> setOfTasks = uniqueTagsToTasksMap.get(tag);
         if (setOfTasks == null) {
             setOfTasks = new HashSet<>();
-            uniqueTagsToTasksMap.put(tag, setOfTasks);
+            addTag(tag, setOfTasks);
         }
         setOfTasks.add(task);
         return tag;
@@ -103,7 +151,7 @@ public class UniqueTagCollection implements Iterable<Tag>, UniqueTagCollectionMo
             setOfTasks.remove(task);
 
             if (setOfTasks.isEmpty()) {
-                uniqueTagsToTasksMap.remove(tag);
+                removeTag(tag);
             }
         }
         return tag;
@@ -120,29 +168,38 @@ public class UniqueTagCollection implements Iterable<Tag>, UniqueTagCollectionMo
      * @return A {@link Tag} object that has the name {@code tagName}.
      */
     private Tag getTagWithName(String tagName) {
-        Optional<Tag> possibleTag = uniqueTagsToTasksMap.keySet().stream()
-                .filter(tag -> tag.getTagName().equals(tagName))
-                .findAny();
+        Optional<Tag> possibleTag = findTagWithName(tagName);
 
         Tag targetTag;
         if (possibleTag.isPresent()) {
             targetTag = possibleTag.get();
         } else {
-            targetTag = new Tag(tagName);
-            uniqueTagsToTasksMap.put(targetTag, new HashSet<>());
+            targetTag = intern(tagName);
+            addTag(targetTag, new HashSet<>());
         }
         return targetTag;
     }
 
+    //@@author A0135817B
     /**
-     * Simply finds a tag with the {@code tagName}.
+     * Simply finds a tag with the {@code tagName}, regardless of case, in constant time.
      */
     private Optional<Tag> findTagWithName(String tagName) {
-        return uniqueTagsToTasksMap.keySet().stream()
-                .filter(tag -> tag.getTagName().equals(tagName))
-                .findAny();
+        return Optional.ofNullable(tagsByName.get(tagName.toLowerCase()));
     }
 
+    private void addTag(Tag tag, Set<ImmutableTask> setOfTasks) {
+        uniqueTagsToTasksMap.put(tag, setOfTasks);
+        tagsByName.put(tag.getTagName().toLowerCase(), tag);
+    }
+
+    private void removeTag(Tag tag) {
+        uniqueTagsToTasksMap.remove(tag);
+        tagsByName.remove(tag.getTagName().toLowerCase());
+    }
+
+    //@@author A0135805H
+
     /* Interfacing Getters */
     @Override
     public List<Tag> getUniqueTagList() {
@@ -4,7 +4,19 @@ import java.util.UUID;
 
 //@@author A0135817B
 public abstract class BaseTask implements ImmutableTask {
-    protected UUID uuid = UUID.randomUUID();
+    protected final UUID uuid;
+
+    protected BaseTask() {
+        this(UUID.randomUUID());
+    }
+
+    /**
+     * Creates a task with a known UUID, which avoids generating a random UUID only to
+     * replace it, since that is comparatively slow and contended between threads
+     */
+    protected BaseTask(UUID uuid) {
+        this.uuid = uuid;
+    }
 
     @Override
     public UUID getUUID() {
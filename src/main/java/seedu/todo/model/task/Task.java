@@ -1,38 +1,45 @@
 package seedu.todo.model.task;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
 
-import javafx.beans.Observable;
-import javafx.beans.property.BooleanProperty;
-import javafx.beans.property.ObjectProperty;
-import javafx.beans.property.SimpleBooleanProperty;
-import javafx.beans.property.SimpleObjectProperty;
-import javafx.beans.property.SimpleStringProperty;
-import javafx.beans.property.StringProperty;
+import com.google.common.collect.ImmutableSet;
 import seedu.todo.model.tag.Tag;
+import seedu.todo.model.tag.UniqueTagCollection;
 
 //@@author A0135817B
 /**
- * Represents a single task
+ * Represents a single task. Tasks keep their fields as plain fields and tell listeners
+ * about changes directly, so they can be used without the JavaFX runtime.
  */
 public class Task extends BaseTask implements MutableTask {
-    private StringProperty title = new SimpleStringProperty();
-    private StringProperty description = new SimpleStringProperty();
-    private StringProperty location = new SimpleStringProperty();
+    private String title;
+    private String description;
+    private String location;
 
-    private BooleanProperty pinned = new SimpleBooleanProperty();
-    private BooleanProperty completed = new SimpleBooleanProperty();
+    private boolean pinned;
+    private boolean completed;
 
-    private ObjectProperty<LocalDateTime> startTime = new SimpleObjectProperty<>();
-    private ObjectProperty<LocalDateTime> endTime = new SimpleObjectProperty<>();
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
 
-    private ObjectProperty<Set<Tag>> tags = new SimpleObjectProperty<>(new HashSet<Tag>());
+    private Set<Tag> tags = ImmutableSet.of();
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    /**
+     * Listeners to changes to any of the fields above. Inside an {@link #edit(Consumer)} the
+     * listeners are only notified once the outermost edit is done.
+     */
+    private List<Consumer<? super Task>> listeners;
+    private int editDepth;
+    private boolean isEdited;
+
     /**
      * Creates a new task
      */
@@ -40,10 +47,19 @@ public class Task extends BaseTask implements MutableTask {
         this.setTitle(title);
     }
 
+    /**
+     * Creates a task with an existing UUID, such as one read from storage
+     */
+    public Task(String title, UUID uuid) {
+        super(uuid);
+        this.setTitle(title);
+    }
+
     /**
      * Constructs a Task from a ReadOnlyTask
      */
     public Task(ImmutableTask task) {
+        super(task.getUUID());
         this.setTitle(task.getTitle());
         this.setDescription(task.getDescription().orElse(null));
         this.setLocation(task.getLocation().orElse(null));
@@ -52,48 +68,69 @@ public class Task extends BaseTask implements MutableTask {
         this.setCompleted(task.isCompleted());
         this.setPinned(task.isPinned());
         this.setCreatedAt(task.getCreatedAt());
-        this.uuid = task.getUUID();
         this.setTags(task.getTags());
     }
 
+    /**
+     * Changes the fields of this task to match another task with the same UUID. Setting a
+     * field to the value it already has does nothing, so only the fields that are different
+     * are reported as changed.
+     */
+    public void updateFrom(ImmutableTask task) {
+        assert getUUID().equals(task.getUUID());
+        edit(t -> updateFieldsFrom(task));
+    }
+
+    private void updateFieldsFrom(ImmutableTask task) {
+        setTitle(task.getTitle());
+        setDescription(task.getDescription().orElse(null));
+        setLocation(task.getLocation().orElse(null));
+        setStartTime(task.getStartTime().orElse(null));
+        setEndTime(task.getEndTime().orElse(null));
+        setCompleted(task.isCompleted());
+        setPinned(task.isPinned());
+        setTags(task.getTags());
+        setCreatedAt(task.getCreatedAt());
+    }
+
     @Override
     public String getTitle() {
-        return title.get();
+        return title;
     }
 
     @Override
     public Optional<String> getDescription() {
-        return Optional.ofNullable(description.get());
+        return Optional.ofNullable(description);
     }
 
     @Override
     public Optional<String> getLocation() {
-        return Optional.ofNullable(location.get());
+        return Optional.ofNullable(location);
     }
 
     @Override
     public Optional<LocalDateTime> getStartTime() {
-        return Optional.ofNullable(startTime.get());
+        return Optional.ofNullable(startTime);
     }
 
     @Override
     public Optional<LocalDateTime> getEndTime() {
-        return Optional.ofNullable(endTime.get());
+        return Optional.ofNullable(endTime);
     }
 
     @Override
     public boolean isPinned() {
-        return pinned.get();
+        return pinned;
     }
 
     @Override
     public boolean isCompleted() {
-        return completed.get();
+        return completed;
     }
 
     @Override
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags.get());
+        return tags;
     }
     
     @Override
@@ -101,42 +138,69 @@ public class Task extends BaseTask implements MutableTask {
 
     @Override
     public void setTitle(String title) {
-        this.title.set(title);
+        if (!Objects.equals(this.title, title)) {
+            this.title = title;
+            changed();
+        }
     }
 
     @Override
     public void setPinned(boolean pinned) {
-        this.pinned.set(pinned);
+        if (this.pinned != pinned) {
+            this.pinned = pinned;
+            changed();
+        }
     }
 
     @Override
     public void setCompleted(boolean completed) {
-        this.completed.set(completed);
+        if (this.completed != completed) {
+            this.completed = completed;
+            changed();
+        }
     }
 
     @Override
     public void setDescription(String description) {
-        this.description.set(description);
+        if (!Objects.equals(this.description, description)) {
+            this.description = description;
+            changed();
+        }
     }
 
     @Override
     public void setLocation(String location) {
-        this.location.set(location);
+        if (!Objects.equals(this.location, location)) {
+            this.location = location;
+            changed();
+        }
     }
 
     @Override
     public void setStartTime(LocalDateTime startTime) {
-        this.startTime.set(startTime);
+        if (!Objects.equals(this.startTime, startTime)) {
+            this.startTime = startTime;
+            changed();
+        }
     }
 
     @Override
     public void setEndTime(LocalDateTime endTime) {
-        this.endTime.set(endTime);
+        if (!Objects.equals(this.endTime, endTime)) {
+            this.endTime = endTime;
+            changed();
+        }
     }
 
     @Override
     public void setTags(Set<Tag> tags) {
-        this.tags.set(tags);
+        // Every set of tag names has one shared set of tags, so tasks with the same tags share them.
+        // Tags are equal regardless of case, so a set of equal tags may still be a change.
+        Set<Tag> newTags = UniqueTagCollection.intern(tags);
+        if (this.tags != newTags) {
+            this.tags = newTags;
+            changed();
+        }
     }
     
     public void setCreatedAt(LocalDateTime createdAt) {
@@ -144,12 +208,60 @@ public class Task extends BaseTask implements MutableTask {
             createdAt = LocalDateTime.now();
         }
         
-        this.createdAt = createdAt;
+        if (!createdAt.equals(this.createdAt)) {
+            this.createdAt = createdAt;
+            changed();
+        }
     }
 
-    public Observable[] getObservableProperties() {
-        return new Observable[] {
-            title, description, location, startTime, endTime, tags, completed, pinned,
-        };
+    /**
+     * Makes the changes in <code>update</code> to this task, notifying the listeners of the
+     * task once after all of them instead of once for each property that was changed
+     */
+    public void edit(Consumer<? super MutableTask> update) {
+        editDepth++;
+        try {
+            update.accept(this);
+        } finally {
+            editDepth--;
+            if (editDepth == 0 && isEdited) {
+                isEdited = false;
+                notifyListeners();
+            }
+        }
+    }
+
+    private void changed() {
+        if (editDepth > 0) {
+            isEdited = true;
+        } else {
+            notifyListeners();
+        }
+    }
+
+    private void notifyListeners() {
+        if (listeners == null) {
+            return;
+        }
+
+        for (Consumer<? super Task> listener : new ArrayList<>(listeners)) {
+            listener.accept(this);
+        }
+    }
+
+    /**
+     * Adds a listener that is given this task when any of its fields change
+     */
+    public void addListener(Consumer<? super Task> listener) {
+        if (listeners == null) {
+            listeners = new ArrayList<>(1);
+        }
+        listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<? super Task> listener) {
+        if (listeners != null && listeners.remove(listener) && listeners.isEmpty()) {
+            listeners = null;
+        }
     }
 }
@@ -45,6 +45,7 @@ public class ValidationTask extends BaseTask implements MutableTask {
      * Constructs a ValidationTask from an ImmutableTask
      */
     public ValidationTask(ImmutableTask task) {
+        super(task.getUUID());
         this.setTitle(task.getTitle());
         this.setDescription(task.getDescription().orElse(null));
         this.setLocation(task.getLocation().orElse(null));
@@ -54,7 +55,6 @@ public class ValidationTask extends BaseTask implements MutableTask {
         this.setPinned(task.isPinned());
         
         this.createdAt = task.getCreatedAt();
-        this.uuid = task.getUUID();
     }
 
     /**
@@ -0,0 +1,140 @@
+package seedu.todo.storage;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.todo.commons.exceptions.DataConversionException;
+import seedu.todo.model.task.ImmutableTask;
+
+//@@author A0135817B
+/**
+ * Stores completed tasks that were moved out of the todo list so that they no longer
+ * have to be read, saved or displayed with the rest of the list. Archived tasks are kept
+ * in pages of up to {@link #PAGE_SIZE} tasks, each a binary todo list file in a directory
+ * beside the todo list file, so that they can be read back a page at a time when they
+ * are needed.
+ *
+ * Pages are numbered in the order they were created, so the page with the highest number
+ * contains the most recently archived tasks.
+ */
+public class ArchiveStorage {
+    public static final int PAGE_SIZE = 100;
+
+    private static final String ARCHIVE_DIRECTORY_EXTENSION = ".archive";
+    private static final String PAGE_EXTENSION = ".bin";
+    private static final String TEMP_EXTENSION = ".tmp";
+
+    private File directory;
+
+    /**
+     * @param todoListLocation  the location of the todo list the archive belongs to
+     */
+    public ArchiveStorage(String todoListLocation) {
+        this.directory = getArchiveDirectory(todoListLocation);
+    }
+
+    public String getLocation() {
+        return directory.getPath();
+    }
+
+    /**
+     * Lists the pages in the archive, starting with the most recent one
+     */
+    public List<Integer> getPages() {
+        List<Integer> pages = new ArrayList<>();
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return pages;
+        }
+
+        for (File file : files) {
+            String name = file.getName();
+            if (name.endsWith(PAGE_EXTENSION)) {
+                try {
+                    pages.add(Integer.parseInt(name.substring(0, name.length() - PAGE_EXTENSION.length())));
+                } catch (NumberFormatException e) {
+                    // Not one of ours
+                }
+            }
+        }
+
+        pages.sort(Collections.reverseOrder());
+        return pages;
+    }
+
+    public List<ImmutableTask> readPage(int page) throws DataConversionException, FileNotFoundException {
+        return new BinaryTodoListStorage(getPageFile(page).getPath()).read().getTasks();
+    }
+
+    /**
+     * Writes the tasks into a new page after all existing pages
+     *
+     * @return the number of the new page
+     */
+    public int addPage(List<? extends ImmutableTask> tasks) throws IOException {
+        List<Integer> pages = getPages();
+        int page = pages.isEmpty() ? 0 : pages.get(0) + 1;
+        savePage(page, tasks);
+        return page;
+    }
+
+    /**
+     * Replaces the tasks in the page. The page is deleted if there are no tasks left in it.
+     */
+    public void savePage(int page, List<? extends ImmutableTask> tasks) throws IOException {
+        File file = getPageFile(page);
+        if (tasks.isEmpty()) {
+            Files.deleteIfExists(file.toPath());
+            return;
+        }
+
+        List<ImmutableTask> pageTasks = new ArrayList<>(tasks);
+        File temp = new File(file.getPath() + TEMP_EXTENSION);
+        new BinaryTodoListStorage(temp.getPath()).save(() -> pageTasks);
+
+        try {
+            Files.move(temp.toPath(), file.toPath(),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Moves the archive to follow the todo list to its new location. The archive stays
+     * where it is if it cannot be moved.
+     *
+     * @throws IOException if there already is an archive at the new location or the
+     * archive could not be moved
+     */
+    public void moveTo(String todoListLocation) throws IOException {
+        File newDirectory = getArchiveDirectory(todoListLocation);
+        if (newDirectory.getAbsoluteFile().equals(directory.getAbsoluteFile())) {
+            return;
+        }
+
+        if (directory.exists()) {
+            if (newDirectory.exists()) {
+                throw new IOException("An archive already exists at " + newDirectory);
+            }
+            Files.move(directory.toPath(), newDirectory.toPath());
+        }
+
+        directory = newDirectory;
+    }
+
+    private File getPageFile(int page) {
+        return new File(directory, page + PAGE_EXTENSION);
+    }
+
+    private static File getArchiveDirectory(String todoListLocation) {
+        return new File(todoListLocation + ARCHIVE_DIRECTORY_EXTENSION);
+    }
+}
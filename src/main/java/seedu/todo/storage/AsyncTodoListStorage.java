@@ -0,0 +1,307 @@
+package seedu.todo.storage;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import javafx.application.Platform;
+import seedu.todo.commons.core.EventsCenter;
+import seedu.todo.commons.core.LogsCenter;
+import seedu.todo.commons.events.storage.DataSavingExceptionEvent;
+import seedu.todo.commons.exceptions.DataConversionException;
+import seedu.todo.model.ImmutableTodoList;
+import seedu.todo.model.task.ImmutableTask;
+import seedu.todo.model.task.Task;
+
+//@@author A0135817B
+/**
+ * Wraps another todo list storage so that saves happen on a dedicated writer thread
+ * instead of the thread that made the change, which is usually the JavaFX thread.
+ *
+ * Saves are write-behind: {@link #save(ImmutableTodoList)} takes a copy of the list and
+ * returns immediately, and the writer only writes the latest copy it has when it wakes up,
+ * so a burst of changes (eg. <code>complete /all</code> followed by <code>undo</code>)
+ * results in a single write. Only a full save copies every task. An incremental save copies
+ * just the changed tasks and the order of the list, and the writer fills in the rest from
+ * the copies it made of the earlier saves, so a command that changes a few tasks does not
+ * copy the whole list on the thread that made the change. Since callers are no longer around to catch the exception
+ * when a background save fails, failures are reported through a
+ * {@link DataSavingExceptionEvent} instead.
+ *
+ * All other operations, and all access to the wrapped storage, also run on the writer
+ * thread after any pending save, so the wrapped storage does not need to be thread safe.
+ * Call {@link #flush()} before exiting to make sure all changes are written to disk.
+ *
+ * Incremental saves are passed on to the wrapped storage if it supports them. The changes
+ * of saves that are coalesced are merged, and a failed save makes the next one a full save.
+ */
+public class AsyncTodoListStorage implements IncrementalTodoListStorage {
+    private static final String FILE_SAVE_ERROR_FORMAT = "Couldn't save file: %s";
+    private static final long WRITE_DELAY_MILLIS = 50;
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncTodoListStorage.class);
+
+    private final MovableStorage<ImmutableTodoList> storage;
+    private final Executor eventExecutor;
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "TodoList writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * The latest copy of the todo list that has not been written yet
+     */
+    private final AtomicReference<PendingSave> pendingSave = new AtomicReference<>();
+
+    /**
+     * Set once a full save has been scheduled, after which the writer has a copy of every
+     * task and incremental saves only need to copy the changed tasks. Only accessed on the
+     * thread making the saves.
+     */
+    private boolean hasCopies;
+
+    /**
+     * The copies of the tasks as of the last save taken off {@link #pendingSave}, which are
+     * used for the tasks that did not change since then. Only accessed on the writer thread.
+     */
+    private final Map<UUID, ImmutableTask> copies = new HashMap<>();
+
+    /**
+     * Set when a save failed, so the changes since the last successful save are not known.
+     * Only accessed on the writer thread.
+     */
+    private boolean needsFullSave;
+
+    /**
+     * Creates an asynchronous storage that reports failures on the JavaFX thread
+     */
+    public AsyncTodoListStorage(MovableStorage<ImmutableTodoList> storage) {
+        this(storage, Platform::runLater);
+    }
+
+    /**
+     * @param storage        the storage that does the actual reading and writing
+     * @param eventExecutor  the executor used to post events about failed saves
+     */
+    public AsyncTodoListStorage(MovableStorage<ImmutableTodoList> storage, Executor eventExecutor) {
+        this.storage = storage;
+        this.eventExecutor = eventExecutor;
+    }
+
+    @Override
+    public String getLocation() {
+        return storage.getLocation();
+    }
+
+    @Override
+    public ImmutableTodoList read() throws DataConversionException, FileNotFoundException {
+        return read(getLocation());
+    }
+
+    @Override
+    public ImmutableTodoList read(String location) throws DataConversionException, FileNotFoundException {
+        try {
+            return runOnWriter(() -> storage.read(location));
+        } catch (DataConversionException | FileNotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void save(ImmutableTodoList todoList) {
+        assert todoList != null;
+        schedule(copyAll(todoList, null));
+    }
+
+    @Override
+    public void saveChanges(ImmutableTodoList todoList, Set<UUID> changedTasks) {
+        assert todoList != null;
+        if (!hasCopies) {
+            schedule(copyAll(todoList, new HashSet<>(changedTasks)));
+            return;
+        }
+
+        Map<UUID, ImmutableTask> changedCopies = new HashMap<>();
+        for (UUID uuid : changedTasks) {
+            todoList.getTask(uuid).ifPresent(task -> changedCopies.put(uuid, new Task(task)));
+        }
+        schedule(new PendingSave(new ArrayList<>(todoList.getTasks()), changedCopies, new HashSet<>(changedTasks)));
+    }
+
+    private PendingSave copyAll(ImmutableTodoList todoList, Set<UUID> changedTasks) {
+        Map<UUID, ImmutableTask> taskCopies = new HashMap<>();
+        todoList.getTasks().forEach(task -> taskCopies.put(task.getUUID(), new Task(task)));
+        hasCopies = true;
+        return new PendingSave(new ArrayList<>(todoList.getTasks()), taskCopies, changedTasks);
+    }
+
+    private void schedule(PendingSave save) {
+        PendingSave previous = pendingSave.getAndAccumulate(save,
+            (older, newer) -> older == null ? newer : older.mergeWith(newer));
+
+        if (previous == null) {
+            writer.schedule(this::savePending, WRITE_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void save(ImmutableTodoList todoList, String newLocation) throws IOException {
+        List<ImmutableTask> tasks = todoList.getTasks().stream()
+            .map(Task::new).collect(Collectors.toList());
+        ImmutableTodoList copy = () -> tasks;
+
+        try {
+            runOnWriter(() -> {
+                storage.save(copy, newLocation);
+                return null;
+            });
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Blocks until every change passed to this storage has been written to disk
+     */
+    public void flush() {
+        try {
+            runOnWriter(() -> null);
+        } catch (Exception e) {
+            logger.warning("Failed to flush todo list to disk: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the latest pending copy of the todo list, if there is one.
+     * Must only be called on the writer thread.
+     */
+    private void savePending() {
+        PendingSave save = pendingSave.getAndSet(null);
+        if (save == null) {
+            return;
+        }
+
+        ImmutableTodoList todoList = save.applyTo(copies);
+        try {
+            if (save.changedTasks != null && !needsFullSave && storage instanceof IncrementalTodoListStorage) {
+                ((IncrementalTodoListStorage) storage).saveChanges(todoList, save.changedTasks);
+            } else {
+                storage.save(todoList);
+            }
+            needsFullSave = false;
+        } catch (Exception e) {
+            // Exceptions other than IOException would otherwise be swallowed by the scheduled task
+            needsFullSave = true;
+            String message = String.format(FILE_SAVE_ERROR_FORMAT, e.getMessage());
+            logger.severe("Data IO error - " + e.getClass().getSimpleName() + " | " + e.getMessage());
+            eventExecutor.execute(() -> EventsCenter.getInstance().post(new DataSavingExceptionEvent(message, e)));
+        }
+    }
+
+    /**
+     * Runs the operation on the writer thread after any pending save and waits for its result.
+     * Any exception thrown by the operation is rethrown on the calling thread.
+     */
+    private <T> T runOnWriter(StorageOperation<T> operation) throws Exception {
+        try {
+            return writer.submit(() -> {
+                savePending();
+                return operation.run();
+            }).get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    /**
+     * A save waiting to be written. The order of the list is kept as the tasks in the todo
+     * list, which are only used for their UUIDs since the tasks themselves keep changing.
+     * The copies are of every task for a full save, and of the changed tasks still in the
+     * list for an incremental save. The changed tasks are the UUIDs of the tasks that changed
+     * since the last save was scheduled, or null if the whole list has to be saved.
+     */
+    private static class PendingSave {
+        private final List<ImmutableTask> order;
+        private final Map<UUID, ImmutableTask> taskCopies;
+        private final Set<UUID> changedTasks;
+
+        PendingSave(List<ImmutableTask> order, Map<UUID, ImmutableTask> taskCopies, Set<UUID> changedTasks) {
+            this.order = order;
+            this.taskCopies = taskCopies;
+            this.changedTasks = changedTasks;
+        }
+
+        /**
+         * Replaces an older pending save with this one, keeping the changes of both
+         */
+        PendingSave mergeWith(PendingSave newer) {
+            Map<UUID, ImmutableTask> mergedCopies = new HashMap<>(taskCopies);
+            newer.removeFrom(mergedCopies);
+            mergedCopies.putAll(newer.taskCopies);
+
+            Set<UUID> mergedChanges = null;
+            if (changedTasks != null && newer.changedTasks != null) {
+                mergedChanges = new HashSet<>(changedTasks);
+                mergedChanges.addAll(newer.changedTasks);
+            }
+            return new PendingSave(newer.order, mergedCopies, mergedChanges);
+        }
+
+        /**
+         * Updates the copies of the tasks with the ones in this save, and puts them in the
+         * order of the list
+         */
+        ImmutableTodoList applyTo(Map<UUID, ImmutableTask> copies) {
+            if (changedTasks == null) {
+                copies.clear();
+            } else {
+                removeFrom(copies);
+            }
+            copies.putAll(taskCopies);
+
+            List<ImmutableTask> tasks = order.stream()
+                .map(task -> copies.get(task.getUUID())).collect(Collectors.toList());
+            return () -> tasks;
+        }
+
+        /**
+         * Removes the tasks that this save dropped from the list
+         */
+        private void removeFrom(Map<UUID, ImmutableTask> copies) {
+            if (changedTasks != null) {
+                changedTasks.stream().filter(uuid -> !taskCopies.containsKey(uuid)).forEach(copies::remove);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface StorageOperation<T> {
+        T run() throws Exception;
+    }
+}
@@ -0,0 +1,311 @@
+package seedu.todo.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import seedu.todo.commons.exceptions.DataConversionException;
+import seedu.todo.commons.exceptions.IllegalValueException;
+import seedu.todo.commons.util.FileUtil;
+import seedu.todo.commons.util.StringUtil;
+import seedu.todo.model.ImmutableTodoList;
+import seedu.todo.model.tag.Tag;
+import seedu.todo.model.tag.UniqueTagCollection;
+import seedu.todo.model.task.ImmutableTask;
+import seedu.todo.model.task.Task;
+
+//@@author A0135817B
+/**
+ * A class to access TodoList data stored in a compact binary format on the hard disk.
+ * This is much faster to read and write than XML for large lists, at the cost of the
+ * file not being human readable. The layout of the file is
+ *
+ * <pre>
+ * magic number     int, {@link #MAGIC}
+ * version          short, {@link #VERSION}
+ * tag names        int count, followed by that many strings
+ * tasks            int count, followed by that many tasks
+ * </pre>
+ *
+ * Each task stores its UUID as two longs, a byte of flags marking which optional fields
+ * are present, the strings, the times, and its tags as indices into the tag name table.
+ * Times are stored as minutes since the epoch, with the seconds and nanoseconds appended
+ * only for times that do not fall on a whole minute. Strings are stored as a length
+ * followed by their UTF-8 bytes.
+ */
+public class BinaryTodoListStorage implements MovableStorage<ImmutableTodoList> {
+    static final int MAGIC = 0x554A5444; // "UJTD"
+    private static final short VERSION = 1;
+
+    private static final int PINNED = 1;
+    private static final int COMPLETED = 1 << 1;
+    private static final int HAS_DESCRIPTION = 1 << 2;
+    private static final int HAS_LOCATION = 1 << 3;
+    private static final int HAS_START_TIME = 1 << 4;
+    private static final int HAS_END_TIME = 1 << 5;
+
+    private String filePath;
+
+    public BinaryTodoListStorage(String filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public String getLocation() {
+        return filePath;
+    }
+
+    @Override
+    public ImmutableTodoList read() throws DataConversionException, FileNotFoundException {
+        return read(filePath);
+    }
+
+    @Override
+    public ImmutableTodoList read(String filePath) throws DataConversionException, FileNotFoundException {
+        assert filePath != null;
+        File file = new File(filePath);
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            List<ImmutableTask> tasks = readTasks(in);
+            return () -> tasks;
+        } catch (IOException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void save(ImmutableTodoList todoList, String newLocation) throws IOException {
+        String oldLocation = filePath;
+        filePath = newLocation;
+
+        try {
+            save(todoList);
+        } catch (IOException e) {
+            filePath = oldLocation;
+            throw e;
+        }
+    }
+
+    @Override
+    public void save(ImmutableTodoList todoList) throws IOException {
+        assert todoList != null;
+        assert filePath != null;
+
+        File file = new File(filePath);
+        FileUtil.createIfMissing(file);
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            writeTasks(out, todoList.getTasks());
+        }
+    }
+
+    /**
+     * Writes the tasks in the binary format, starting with the magic number
+     */
+    static void writeTasks(DataOutputStream out, List<ImmutableTask> tasks) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+
+        // Build the tag name table, so each tag name is only written once
+        Map<String, Integer> tagIndices = new HashMap<>();
+        List<String> tagNames = new ArrayList<>();
+        for (ImmutableTask task : tasks) {
+            for (Tag tag : task.getTags()) {
+                if (!tagIndices.containsKey(tag.getTagName())) {
+                    tagIndices.put(tag.getTagName(), tagNames.size());
+                    tagNames.add(tag.getTagName());
+                }
+            }
+        }
+
+        out.writeInt(tagNames.size());
+        for (String tagName : tagNames) {
+            writeString(out, tagName);
+        }
+
+        out.writeInt(tasks.size());
+        for (ImmutableTask task : tasks) {
+            writeTask(out, task, tagIndices);
+        }
+    }
+
+    private static void writeTask(DataOutputStream out, ImmutableTask task, Map<String, Integer> tagIndices)
+            throws IOException {
+        out.writeLong(task.getUUID().getMostSignificantBits());
+        out.writeLong(task.getUUID().getLeastSignificantBits());
+
+        int flags = (task.isPinned() ? PINNED : 0)
+            | (task.isCompleted() ? COMPLETED : 0)
+            | (task.getDescription().isPresent() ? HAS_DESCRIPTION : 0)
+            | (task.getLocation().isPresent() ? HAS_LOCATION : 0)
+            | (task.getStartTime().isPresent() ? HAS_START_TIME : 0)
+            | (task.getEndTime().isPresent() ? HAS_END_TIME : 0);
+        out.writeByte(flags);
+
+        writeString(out, task.getTitle());
+        if (task.getDescription().isPresent()) {
+            writeString(out, task.getDescription().get());
+        }
+        if (task.getLocation().isPresent()) {
+            writeString(out, task.getLocation().get());
+        }
+        if (task.getStartTime().isPresent()) {
+            writeTime(out, task.getStartTime().get());
+        }
+        if (task.getEndTime().isPresent()) {
+            writeTime(out, task.getEndTime().get());
+        }
+        writeTime(out, task.getCreatedAt());
+
+        out.writeShort(task.getTags().size());
+        for (Tag tag : task.getTags()) {
+            out.writeInt(tagIndices.get(tag.getTagName()));
+        }
+    }
+
+    /**
+     * Reads tasks written by {@link #writeTasks}
+     *
+     * @throws IOException if the data is not in the binary format or is incomplete
+     * @throws DataConversionException if a task is not valid, such as one without a title
+     */
+    static List<ImmutableTask> readTasks(DataInputStream in) throws IOException, DataConversionException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a binary todo list file");
+        }
+
+        short version = in.readShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported binary todo list version " + version);
+        }
+
+        Tag[] tags = new Tag[readCount(in)];
+        for (int i = 0; i < tags.length; i++) {
+            tags[i] = UniqueTagCollection.intern(readString(in));
+        }
+
+        int size = readCount(in);
+        List<ImmutableTask> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(readTask(in, tags));
+        }
+        return tasks;
+    }
+
+    private static Task readTask(DataInputStream in, Tag[] tags) throws IOException, DataConversionException {
+        UUID uuid = new UUID(in.readLong(), in.readLong());
+        int flags = in.readByte();
+
+        // The same check as the XML format, so both formats accept the same todo lists
+        String title = readString(in);
+        if (StringUtil.isEmpty(title)) {
+            throw new DataConversionException(new IllegalValueException("Task " + uuid + " has no title"));
+        }
+
+        Task task = new Task(title, uuid);
+        task.setPinned((flags & PINNED) != 0);
+        task.setCompleted((flags & COMPLETED) != 0);
+
+        if ((flags & HAS_DESCRIPTION) != 0) {
+            task.setDescription(readString(in));
+        }
+        if ((flags & HAS_LOCATION) != 0) {
+            task.setLocation(readString(in));
+        }
+        if ((flags & HAS_START_TIME) != 0) {
+            task.setStartTime(readTime(in));
+        }
+        if ((flags & HAS_END_TIME) != 0) {
+            task.setEndTime(readTime(in));
+        }
+        task.setCreatedAt(readTime(in));
+
+        int tagCount = in.readShort();
+        Set<Tag> taskTags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            int index = in.readInt();
+            if (index < 0 || index >= tags.length) {
+                throw new IOException("Tag index out of range: " + index);
+            }
+            taskTags.add(tags[index]);
+        }
+        task.setTags(taskTags);
+
+        return task;
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = readCount(in);
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a count or length, checking that it is not larger than what is left of the
+     * file so that a corrupt file cannot make us allocate a huge array
+     */
+    private static int readCount(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > in.available()) {
+            throw new IOException("Invalid count " + count);
+        }
+        return count;
+    }
+
+    /**
+     * Writes the time as minutes since the epoch, shifted left by one bit. The lowest bit
+     * is set when the time has seconds or nanoseconds, which then follow the minutes.
+     */
+    private static void writeTime(DataOutputStream out, LocalDateTime time) throws IOException {
+        long epochSecond = time.toEpochSecond(ZoneOffset.UTC);
+        long minutes = Math.floorDiv(epochSecond, 60);
+        int seconds = (int) Math.floorMod(epochSecond, 60);
+        boolean isWholeMinute = seconds == 0 && time.getNano() == 0;
+
+        out.writeLong(minutes << 1 | (isWholeMinute ? 0 : 1));
+        if (!isWholeMinute) {
+            out.writeByte(seconds);
+            out.writeInt(time.getNano());
+        }
+    }
+
+    private static LocalDateTime readTime(DataInputStream in) throws IOException {
+        long value = in.readLong();
+        long epochSecond = (value >> 1) * 60;
+        int nanos = 0;
+
+        if ((value & 1) != 0) {
+            epochSecond += in.readByte();
+            nanos = in.readInt();
+        }
+
+        return LocalDateTime.ofEpochSecond(epochSecond, nanos, ZoneOffset.UTC);
+    }
+}
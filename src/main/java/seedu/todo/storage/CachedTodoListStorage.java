@@ -0,0 +1,229 @@
+package seedu.todo.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.todo.commons.core.LogsCenter;
+import seedu.todo.commons.exceptions.DataConversionException;
+import seedu.todo.commons.util.FileUtil;
+import seedu.todo.model.ImmutableTodoList;
+import seedu.todo.model.task.ImmutableTask;
+
+//@@author A0135817B
+/**
+ * Wraps the storage of XML todo list files with a startup cache. Whenever an XML file is
+ * read or saved, a copy of its tasks in the binary format is written to a cache file
+ * beside it, and the next read of the XML file is served from the cache instead, which
+ * is much faster than parsing the XML.
+ *
+ * The cache records the size, modification time and checksum of the XML file it was
+ * made from, and is only used if all three still match, so a cache is never used after
+ * the XML file was edited by hand or replaced. Files in other formats are not cached.
+ * Failing to read or write the cache is never an error, since the XML file is always
+ * there to fall back on.
+ */
+public class CachedTodoListStorage implements MovableStorage<ImmutableTodoList> {
+    private static final String CACHE_EXTENSION = ".cache";
+    private static final int MAGIC = 0x554A5443; // "UJTC"
+    private static final short VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(CachedTodoListStorage.class);
+
+    private final MovableStorage<ImmutableTodoList> storage;
+
+    public CachedTodoListStorage(MovableStorage<ImmutableTodoList> storage) {
+        this.storage = storage;
+    }
+
+    @Override
+    public String getLocation() {
+        return storage.getLocation();
+    }
+
+    @Override
+    public ImmutableTodoList read() throws DataConversionException, FileNotFoundException {
+        return read(getLocation());
+    }
+
+    @Override
+    public ImmutableTodoList read(String location) throws DataConversionException, FileNotFoundException {
+        File file = new File(location);
+        if (!isCacheable(file)) {
+            return storage.read(location);
+        }
+
+        Optional<List<ImmutableTask>> cachedTasks = readCache(file);
+        if (cachedTasks.isPresent()) {
+            List<ImmutableTask> tasks = cachedTasks.get();
+            return () -> tasks;
+        }
+
+        // Take the fingerprint before reading, so the cache can never be newer than the file
+        Optional<SourceFingerprint> fingerprint = SourceFingerprint.of(file);
+        ImmutableTodoList todoList = storage.read(location);
+        fingerprint.ifPresent(f -> writeCache(file, f, todoList.getTasks()));
+        return todoList;
+    }
+
+    @Override
+    public void save(ImmutableTodoList todoList, String newLocation) throws IOException {
+        storage.save(todoList, newLocation);
+        updateCache(new File(newLocation), todoList.getTasks());
+    }
+
+    @Override
+    public void save(ImmutableTodoList todoList) throws IOException {
+        storage.save(todoList);
+        updateCache(new File(getLocation()), todoList.getTasks());
+    }
+
+    private static boolean isCacheable(File file) {
+        return FileUtil.isFileExists(file) && TodoListFormat.detect(file) == TodoListFormat.XML;
+    }
+
+    /**
+     * Replaces the cache of a file that was just saved
+     */
+    private static void updateCache(File file, List<ImmutableTask> tasks) {
+        if (!isCacheable(file)) {
+            deleteCache(file);
+            return;
+        }
+
+        Optional<SourceFingerprint> fingerprint = SourceFingerprint.of(file);
+        if (fingerprint.isPresent()) {
+            writeCache(file, fingerprint.get(), tasks);
+        } else {
+            deleteCache(file);
+        }
+    }
+
+    /**
+     * Reads the tasks from the cache of the file
+     *
+     * @return the tasks, or an empty optional if there is no cache or it is out of date
+     */
+    private static Optional<List<ImmutableTask>> readCache(File file) {
+        File cache = getCacheFile(file);
+        if (!FileUtil.isFileExists(cache)) {
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(cache)))) {
+            if (in.readInt() != MAGIC || in.readShort() != VERSION || !SourceFingerprint.read(in).matches(file)) {
+                logger.info("Ignoring out of date cache " + cache);
+                return Optional.empty();
+            }
+
+            return Optional.of(BinaryTodoListStorage.readTasks(in));
+        } catch (IOException | DataConversionException e) {
+            logger.warning("Ignoring unreadable cache " + cache + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static void writeCache(File file, SourceFingerprint fingerprint, List<ImmutableTask> tasks) {
+        File cache = getCacheFile(file);
+        File temp = new File(cache.getPath() + ".tmp");
+
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeShort(VERSION);
+                fingerprint.write(out);
+                BinaryTodoListStorage.writeTasks(out, tasks);
+            }
+            Files.move(temp.toPath(), cache.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            logger.warning("Failed to write cache " + cache + ": " + e.getMessage());
+            temp.delete();
+            deleteCache(file);
+        }
+    }
+
+    private static void deleteCache(File file) {
+        File cache = getCacheFile(file);
+        if (cache.exists() && !cache.delete()) {
+            logger.warning("Failed to delete out of date cache " + cache);
+        }
+    }
+
+    private static File getCacheFile(File file) {
+        return new File(file.getPath() + CACHE_EXTENSION);
+    }
+
+    /**
+     * Identifies the exact contents of the file a cache was made from
+     */
+    private static class SourceFingerprint {
+        private static final int BUFFER_SIZE = 64 * 1024;
+
+        private final long length;
+        private final long lastModified;
+        private final long checksum;
+
+        private SourceFingerprint(long length, long lastModified, long checksum) {
+            this.length = length;
+            this.lastModified = lastModified;
+            this.checksum = checksum;
+        }
+
+        /**
+         * Computes the fingerprint of the file as it currently is on disk
+         */
+        static Optional<SourceFingerprint> of(File file) {
+            long length = file.length();
+            long lastModified = file.lastModified();
+
+            try {
+                return Optional.of(new SourceFingerprint(length, lastModified, checksum(file)));
+            } catch (IOException e) {
+                return Optional.empty();
+            }
+        }
+
+        static SourceFingerprint read(DataInputStream in) throws IOException {
+            return new SourceFingerprint(in.readLong(), in.readLong(), in.readLong());
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeLong(length);
+            out.writeLong(lastModified);
+            out.writeLong(checksum);
+        }
+
+        /**
+         * Checks if the file still has this fingerprint. The checksum is only computed if
+         * the much cheaper size and modification time checks pass.
+         */
+        boolean matches(File file) throws IOException {
+            return file.length() == length && file.lastModified() == lastModified && checksum(file) == checksum;
+        }
+
+        private static long checksum(File file) throws IOException {
+            CRC32 crc = new CRC32();
+            try (InputStream in = new FileInputStream(file)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    crc.update(buffer, 0, read);
+                }
+            }
+            return crc.getValue();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.todo.storage;
+
+import java.util.List;
+
+import seedu.todo.commons.exceptions.DataConversionException;
+import seedu.todo.model.task.ImmutableTask;
+
+//@@author A0135817B
+/**
+ * Represents a todo list file in which some of the tasks could not be read. The tasks that
+ * could be read are kept, so that the rest of the todo list can still be used once the user
+ * has been told which tasks are missing.
+ */
+public class CorruptTasksException extends DataConversionException {
+    private final List<ImmutableTask> tasks;
+
+    public CorruptTasksException(String message, List<ImmutableTask> tasks) {
+        super(message);
+        this.tasks = tasks;
+    }
+
+    /**
+     * Gets the tasks that could be read, in the order they are in the file
+     */
+    public List<ImmutableTask> getTasks() {
+        return tasks;
+    }
+}
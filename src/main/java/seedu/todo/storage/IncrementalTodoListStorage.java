@@ -0,0 +1,26 @@
+package seedu.todo.storage;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.UUID;
+
+import seedu.todo.model.ImmutableTodoList;
+
+//@@author A0135817B
+/**
+ * Represents a todo list storage that can save a todo list by only writing
+ * the tasks that changed since it was last saved
+ */
+public interface IncrementalTodoListStorage extends MovableStorage<ImmutableTodoList> {
+    /**
+     * Persists the changes made to the todo list since the last successful save. Tasks
+     * in <code>changedTasks</code> that are no longer in the list were removed, and tasks
+     * added since the last save must be at the end of the list. Implementations may fall
+     * back to saving the whole list if they cannot apply the changes on their own.
+     *
+     * @param todoList      the todo list with the changes applied
+     * @param changedTasks  the UUIDs of tasks that were added, changed or removed
+     * @throws IOException if there was any problem saving the changes to storage
+     */
+    void saveChanges(ImmutableTodoList todoList, Set<UUID> changedTasks) throws IOException;
+}
@@ -0,0 +1,346 @@
+package seedu.todo.storage;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import seedu.todo.commons.core.LogsCenter;
+import seedu.todo.commons.exceptions.DataConversionException;
+import seedu.todo.commons.exceptions.IllegalValueException;
+import seedu.todo.commons.util.FileUtil;
+import seedu.todo.commons.util.JsonUtil;
+import seedu.todo.model.ImmutableTodoList;
+import seedu.todo.model.task.ImmutableTask;
+
+//@@author A0135817B
+/**
+ * A storage that persists the todo list as a full snapshot plus an append-only journal
+ * of changes. The snapshot is written by the wrapped storage, while every save after that
+ * only appends one small record per added, changed or removed task to a journal file
+ * kept beside the snapshot, so the cost of a save depends on the size of the change
+ * rather than the size of the list. Once the journal grows past
+ * {@link #COMPACTION_THRESHOLD} records it is folded back into a new snapshot.
+ *
+ * The first line of the journal records the size and modification time of the snapshot
+ * it applies to, so a journal left behind by an interrupted compaction is ignored
+ * instead of being replayed over a newer snapshot.
+ */
+public class JournaledTodoListStorage implements MovableStorage<ImmutableTodoList> {
+    private static final String JOURNAL_EXTENSION = ".journal";
+    private static final int COMPACTION_THRESHOLD = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledTodoListStorage.class);
+
+    private final MovableStorage<ImmutableTodoList> snapshotStorage;
+
+    /**
+     * The tasks as they currently are on disk, in list order. This is null when the state
+     * on disk is not known, in which case the next save will write a full snapshot.
+     */
+    private Map<UUID, XmlAdaptedTask> persistedTasks;
+    private int journalSize;
+
+    public JournaledTodoListStorage(MovableStorage<ImmutableTodoList> snapshotStorage) {
+        this.snapshotStorage = snapshotStorage;
+    }
+
+    @Override
+    public String getLocation() {
+        return snapshotStorage.getLocation();
+    }
+
+    @Override
+    public ImmutableTodoList read() throws DataConversionException, FileNotFoundException {
+        return read(getLocation());
+    }
+
+    @Override
+    public ImmutableTodoList read(String location) throws DataConversionException, FileNotFoundException {
+        ImmutableTodoList snapshot;
+        CorruptTasksException corruptTasks = null;
+        try {
+            snapshot = snapshotStorage.read(location);
+        } catch (CorruptTasksException e) {
+            // The journal is still replayed over the tasks that could be read, so that only
+            // the tasks the user is told about are missing
+            corruptTasks = e;
+            List<ImmutableTask> readTasks = e.getTasks();
+            snapshot = () -> readTasks;
+        }
+        Map<UUID, XmlAdaptedTask> tasks = toRecords(snapshot);
+
+        int replayed = replayJournal(location, tasks);
+
+        if (location.equals(getLocation())) {
+            // A snapshot with tasks that could not be read is replaced by the next save
+            persistedTasks = corruptTasks == null ? tasks : null;
+            journalSize = replayed;
+        }
+
+        // With nothing replayed the snapshot is already up to date, so there is no need
+        // to convert the records back into tasks
+        ImmutableTodoList todoList = replayed == 0 ? snapshot : new JournalTodoList(toModelType(tasks));
+        if (corruptTasks != null) {
+            throw new CorruptTasksException(corruptTasks.getMessage(), todoList.getTasks());
+        }
+        return todoList;
+    }
+
+    @Override
+    public void save(ImmutableTodoList todoList, String newLocation) throws IOException {
+        snapshotStorage.save(todoList, newLocation);
+        startJournal(newLocation);
+        persistedTasks = toRecords(todoList);
+    }
+
+    @Override
+    public void save(ImmutableTodoList todoList) throws IOException {
+        assert todoList != null;
+
+        if (persistedTasks == null || journalSize >= COMPACTION_THRESHOLD) {
+            saveSnapshot(todoList);
+            return;
+        }
+
+        List<JournalEntry> entries = getChanges(todoList.getTasks());
+        if (entries == null) {
+            // The order of the tasks changed, which the journal cannot represent
+            saveSnapshot(todoList);
+        } else if (!entries.isEmpty()) {
+            appendToJournal(entries);
+        }
+    }
+
+    private void saveSnapshot(ImmutableTodoList todoList) throws IOException {
+        persistedTasks = null;
+        snapshotStorage.save(todoList);
+        startJournal(getLocation());
+        persistedTasks = toRecords(todoList);
+    }
+
+    /**
+     * Replaces the journal at the location with an empty one that only contains the
+     * header for the snapshot currently at that location
+     */
+    private void startJournal(String location) throws IOException {
+        File snapshot = new File(location);
+        JournalHeader header = new JournalHeader(snapshot.length(), snapshot.lastModified());
+        FileUtil.writeToFile(getJournalFile(location), JsonUtil.toJsonLine(header) + System.lineSeparator());
+        journalSize = 0;
+    }
+
+    private void appendToJournal(List<JournalEntry> entries) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JournalEntry entry : entries) {
+            lines.append(JsonUtil.toJsonLine(entry)).append(System.lineSeparator());
+        }
+
+        try {
+            FileUtil.appendToFile(getJournalFile(getLocation()), lines.toString());
+        } catch (IOException e) {
+            // We can no longer be sure what is on disk, so force a snapshot on the next save
+            persistedTasks = null;
+            throw e;
+        }
+
+        for (JournalEntry entry : entries) {
+            entry.applyTo(persistedTasks);
+        }
+        journalSize += entries.size();
+    }
+
+    /**
+     * Compares the tasks against what is on disk and produces the journal entries
+     * needed to bring the data on disk up to date.
+     *
+     * @return the list of changes, or null if the tasks were reordered in a way
+     * that cannot be represented by appending to the journal
+     */
+    private List<JournalEntry> getChanges(List<ImmutableTask> tasks) {
+        List<JournalEntry> entries = new ArrayList<>();
+        List<UUID> keptTasks = new ArrayList<>();
+        Set<UUID> liveTasks = new HashSet<>();
+        boolean hasNewTasks = false;
+
+        for (ImmutableTask task : tasks) {
+            UUID uuid = task.getUUID();
+            liveTasks.add(uuid);
+            XmlAdaptedTask persisted = persistedTasks.get(uuid);
+
+            if (persisted == null) {
+                hasNewTasks = true;
+                entries.add(JournalEntry.put(task));
+            } else if (hasNewTasks) {
+                // Replaying the journal appends new tasks to the end of the list,
+                // so an existing task cannot come after a new one
+                return null;
+            } else {
+                keptTasks.add(uuid);
+                if (!persisted.hasSameValues(task)) {
+                    entries.add(JournalEntry.put(task));
+                }
+            }
+        }
+
+        int keptIndex = 0;
+        for (UUID uuid : persistedTasks.keySet()) {
+            if (!liveTasks.contains(uuid)) {
+                entries.add(JournalEntry.remove(uuid));
+            } else if (!uuid.equals(keptTasks.get(keptIndex++))) {
+                return null;
+            }
+        }
+
+        return entries;
+    }
+
+    /**
+     * Applies the journal at the location to the tasks read from the snapshot. Replay stops
+     * at the first record that cannot be read, since that is most likely a partially written
+     * record from an interrupted save.
+     *
+     * @return the number of records that were applied
+     */
+    private int replayJournal(String location, Map<UUID, XmlAdaptedTask> tasks) throws DataConversionException {
+        File journal = getJournalFile(location);
+        if (!FileUtil.isFileExists(journal)) {
+            return 0;
+        }
+
+        int replayed = 0;
+        try (BufferedReader reader = Files.newBufferedReader(journal.toPath(), StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            if (line == null || !JsonUtil.fromJsonString(line, JournalHeader.class).matches(new File(location))) {
+                logger.info("Ignoring journal " + journal + " as it does not match the snapshot");
+                return 0;
+            }
+
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+
+                JournalEntry entry;
+                try {
+                    entry = JsonUtil.fromJsonString(line, JournalEntry.class);
+                } catch (IOException e) {
+                    logger.warning("Stopped replaying journal " + journal + " at a corrupted record");
+                    break;
+                }
+
+                entry.applyTo(tasks);
+                replayed++;
+            }
+        } catch (IOException e) {
+            throw new DataConversionException(e);
+        }
+
+        return replayed;
+    }
+
+    private static File getJournalFile(String location) {
+        return new File(location + JOURNAL_EXTENSION);
+    }
+
+    private static Map<UUID, XmlAdaptedTask> toRecords(ImmutableTodoList todoList) {
+        Map<UUID, XmlAdaptedTask> records = new LinkedHashMap<>();
+        for (ImmutableTask task : todoList.getTasks()) {
+            records.put(task.getUUID(), new XmlAdaptedTask(task));
+        }
+        return records;
+    }
+
+    private static List<ImmutableTask> toModelType(Map<UUID, XmlAdaptedTask> records)
+            throws DataConversionException {
+        List<ImmutableTask> tasks = new ArrayList<>(records.size());
+        for (XmlAdaptedTask record : records.values()) {
+            try {
+                tasks.add(record.toModelType());
+            } catch (IllegalValueException e) {
+                throw new DataConversionException(e);
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * The first line of the journal, identifying the snapshot the journal applies to
+     */
+    public static class JournalHeader {
+        private long snapshotLength;
+        private long snapshotLastModified;
+
+        /**
+         * No-arg constructor for Jackson use
+         */
+        public JournalHeader() {}
+
+        public JournalHeader(long snapshotLength, long snapshotLastModified) {
+            this.snapshotLength = snapshotLength;
+            this.snapshotLastModified = snapshotLastModified;
+        }
+
+        boolean matches(File snapshot) {
+            return snapshot.length() == snapshotLength && snapshot.lastModified() == snapshotLastModified;
+        }
+    }
+
+    /**
+     * A single change to the todo list. A null task indicates the task with the
+     * UUID was removed, otherwise the task was added or replaced.
+     */
+    public static class JournalEntry {
+        private UUID uuid;
+        private XmlAdaptedTask task;
+
+        /**
+         * No-arg constructor for Jackson use
+         */
+        public JournalEntry() {}
+
+        private JournalEntry(UUID uuid, XmlAdaptedTask task) {
+            this.uuid = uuid;
+            this.task = task;
+        }
+
+        static JournalEntry put(ImmutableTask task) {
+            return new JournalEntry(task.getUUID(), new XmlAdaptedTask(task));
+        }
+
+        static JournalEntry remove(UUID uuid) {
+            return new JournalEntry(uuid, null);
+        }
+
+        void applyTo(Map<UUID, XmlAdaptedTask> tasks) {
+            if (task == null) {
+                tasks.remove(uuid);
+            } else {
+                tasks.put(uuid, task);
+            }
+        }
+    }
+
+    private static class JournalTodoList implements ImmutableTodoList {
+        private final List<ImmutableTask> tasks;
+
+        JournalTodoList(List<ImmutableTask> tasks) {
+            this.tasks = tasks;
+        }
+
+        @Override
+        public List<ImmutableTask> getTasks() {
+            return tasks;
+        }
+    }
+}
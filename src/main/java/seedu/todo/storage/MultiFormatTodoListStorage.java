@@ -0,0 +1,86 @@
+package seedu.todo.storage;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.Set;
+import java.util.UUID;
+
+import seedu.todo.commons.exceptions.DataConversionException;
+import seedu.todo.model.ImmutableTodoList;
+
+//@@author A0135817B
+/**
+ * A todo list storage that can read and write any of the {@link TodoListFormat}s.
+ *
+ * Files are read in whatever format they are actually in, so loading a file never depends
+ * on its extension. The data file is saved in the current format, which starts out as the
+ * one chosen in the config. Saving to a new location picks the format from the extension
+ * of that location (eg. <code>save backup.bin</code> writes a binary file), keeping the
+ * current format if the extension is not recognized. This lets the save and load commands
+ * convert between formats. Incremental saves are passed on to formats that support them.
+ */
+public class MultiFormatTodoListStorage implements IncrementalTodoListStorage {
+    private TodoListFormat format;
+    private MovableStorage<ImmutableTodoList> storage;
+
+    public MultiFormatTodoListStorage(String location, TodoListFormat format) {
+        this.format = format;
+        this.storage = format.createStorage(location);
+    }
+
+    public TodoListFormat getFormat() {
+        return format;
+    }
+
+    @Override
+    public String getLocation() {
+        return storage.getLocation();
+    }
+
+    @Override
+    public ImmutableTodoList read() throws DataConversionException, FileNotFoundException {
+        return read(getLocation());
+    }
+
+    @Override
+    public ImmutableTodoList read(String location) throws DataConversionException, FileNotFoundException {
+        assert location != null;
+        TodoListFormat fileFormat = TodoListFormat.detect(new File(location));
+
+        // Let the current storage read files in its own format, so it knows what is on disk
+        if (fileFormat == format) {
+            return storage.read(location);
+        }
+        return fileFormat.createStorage(location).read();
+    }
+
+    @Override
+    public void save(ImmutableTodoList todoList, String newLocation) throws IOException {
+        assert newLocation != null;
+        TodoListFormat newFormat = TodoListFormat.fromExtension(newLocation).orElse(format);
+
+        if (newFormat == format) {
+            storage.save(todoList, newLocation);
+        } else {
+            MovableStorage<ImmutableTodoList> newStorage = newFormat.createStorage(newLocation);
+            newStorage.save(todoList);
+            format = newFormat;
+            storage = newStorage;
+        }
+    }
+
+    @Override
+    public void save(ImmutableTodoList todoList) throws IOException {
+        storage.save(todoList);
+    }
+
+    @Override
+    public void saveChanges(ImmutableTodoList todoList, Set<UUID> changedTasks) throws IOException {
+        if (storage instanceof IncrementalTodoListStorage) {
+            ((IncrementalTodoListStorage) storage).saveChanges(todoList, changedTasks);
+        } else {
+            storage.save(todoList);
+        }
+    }
+}
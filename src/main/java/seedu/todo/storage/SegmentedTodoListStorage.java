@@ -0,0 +1,401 @@
+package seedu.todo.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import seedu.todo.commons.exceptions.DataConversionException;
+import seedu.todo.commons.util.FileUtil;
+import seedu.todo.model.ImmutableTodoList;
+import seedu.todo.model.task.ImmutableTask;
+
+//@@author A0135817B
+/**
+ * A storage that splits the todo list into segments of up to {@link #SEGMENT_SIZE} tasks,
+ * each stored as a separate binary todo list file, so that a save only has to rewrite the
+ * segments containing tasks that changed. Toggling a single task therefore rewrites one
+ * small file no matter how long the list is.
+ *
+ * The file at the storage location is an index listing the segments in list order, and
+ * the segments themselves are kept in a directory beside it. Segments and the index are
+ * written to a temporary file first and then moved into place, and segments are never
+ * reused between full rewrites, so an interrupted save leaves either the old or the new
+ * version of each file on disk.
+ */
+public class SegmentedTodoListStorage implements IncrementalTodoListStorage {
+    static final int MAGIC = 0x554A5453; // "UJTS"
+    static final int SEGMENT_SIZE = 64;
+
+    private static final short VERSION = 1;
+    private static final String SEGMENT_DIRECTORY_EXTENSION = ".segments";
+    private static final String SEGMENT_EXTENSION = ".bin";
+    private static final String TEMP_EXTENSION = ".tmp";
+
+    private String location;
+
+    /**
+     * The segments as they currently are on disk, in list order. This is null when the state
+     * on disk is not known, in which case the next save will rewrite every segment.
+     */
+    private List<Segment> segments;
+    private Map<UUID, Segment> segmentOfTask;
+    private int nextSegmentId;
+
+    public SegmentedTodoListStorage(String location) {
+        this.location = location;
+    }
+
+    @Override
+    public String getLocation() {
+        return location;
+    }
+
+    @Override
+    public ImmutableTodoList read() throws DataConversionException, FileNotFoundException {
+        return read(location);
+    }
+
+    @Override
+    public ImmutableTodoList read(String location) throws DataConversionException, FileNotFoundException {
+        assert location != null;
+
+        List<Segment> readSegments = readSegments(location);
+        List<ImmutableTask> tasks = new ArrayList<>();
+        for (Segment segment : readSegments) {
+            tasks.addAll(segment.tasks);
+        }
+
+        if (location.equals(this.location)) {
+            setSegments(readSegments);
+        }
+
+        return () -> tasks;
+    }
+
+    @Override
+    public void save(ImmutableTodoList todoList, String newLocation) throws IOException {
+        assert newLocation != null;
+
+        segments = null;
+        writeAll(todoList.getTasks(), newLocation);
+        location = newLocation;
+    }
+
+    @Override
+    public void save(ImmutableTodoList todoList) throws IOException {
+        assert todoList != null;
+
+        segments = null;
+        writeAll(todoList.getTasks(), location);
+    }
+
+    @Override
+    public void saveChanges(ImmutableTodoList todoList, Set<UUID> changedTasks) throws IOException {
+        assert todoList != null;
+
+        try {
+            if (segments == null || !writeChanges(todoList.getTasks(), changedTasks)) {
+                save(todoList);
+            }
+        } catch (IOException e) {
+            // We can no longer be sure what is on disk, so rewrite everything on the next save
+            segments = null;
+            throw e;
+        }
+    }
+
+    /**
+     * Rewrites only the segments containing changed tasks
+     *
+     * @return false if the changes do not match what is on disk, in which case nothing
+     * was written and the whole list has to be saved instead
+     */
+    private boolean writeChanges(List<ImmutableTask> tasks, Set<UUID> changedTasks) throws IOException {
+        List<ImmutableTask> updated = new ArrayList<>();
+        List<ImmutableTask> added = new ArrayList<>();
+        Set<UUID> liveChangedTasks = new HashSet<>();
+
+        for (ImmutableTask task : tasks) {
+            UUID uuid = task.getUUID();
+            boolean isChanged = changedTasks.contains(uuid);
+            if (isChanged) {
+                liveChangedTasks.add(uuid);
+            }
+
+            if (!segmentOfTask.containsKey(uuid)) {
+                if (!isChanged) {
+                    return false;
+                }
+                added.add(task);
+            } else if (!added.isEmpty()) {
+                // New tasks are appended to the last segment, so they have to be at the end of the list
+                return false;
+            } else if (isChanged) {
+                updated.add(task);
+            }
+        }
+
+        List<UUID> removed = new ArrayList<>();
+        for (UUID uuid : changedTasks) {
+            if (segmentOfTask.containsKey(uuid) && !liveChangedTasks.contains(uuid)) {
+                removed.add(uuid);
+            }
+        }
+
+        if (segmentOfTask.size() - removed.size() + added.size() != tasks.size()) {
+            return false;
+        }
+
+        Set<Segment> changedSegments = new LinkedHashSet<>();
+        boolean isIndexChanged = false;
+
+        for (ImmutableTask task : updated) {
+            Segment segment = segmentOfTask.get(task.getUUID());
+            segment.replace(task);
+            changedSegments.add(segment);
+        }
+
+        for (UUID uuid : removed) {
+            Segment segment = segmentOfTask.remove(uuid);
+            segment.remove(uuid);
+            changedSegments.add(segment);
+        }
+
+        for (ImmutableTask task : added) {
+            Segment last = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+            if (last == null || last.tasks.size() >= SEGMENT_SIZE) {
+                last = new Segment(nextSegmentId++, new ArrayList<>());
+                segments.add(last);
+                isIndexChanged = true;
+            }
+
+            last.tasks.add(task);
+            segmentOfTask.put(task.getUUID(), last);
+            changedSegments.add(last);
+        }
+
+        List<Segment> emptySegments = new ArrayList<>();
+        for (Segment segment : changedSegments) {
+            if (segment.tasks.isEmpty()) {
+                emptySegments.add(segment);
+            } else {
+                writeSegment(location, segment);
+            }
+        }
+
+        if (!emptySegments.isEmpty()) {
+            segments.removeAll(emptySegments);
+            isIndexChanged = true;
+        }
+
+        if (isIndexChanged) {
+            writeIndex(location, segments);
+        }
+
+        for (Segment segment : emptySegments) {
+            Files.deleteIfExists(getSegmentFile(location, segment.id).toPath());
+        }
+
+        return true;
+    }
+
+    /**
+     * Splits the tasks into new segments and writes all of them, then removes the segments
+     * that are no longer used
+     */
+    private void writeAll(List<ImmutableTask> tasks, String location) throws IOException {
+        File directory = getSegmentDirectory(location);
+        FileUtil.createDirs(directory);
+
+        // Never overwrite a segment the index on disk might still point to
+        nextSegmentId = Math.max(nextSegmentId, getLastSegmentId(directory) + 1);
+
+        List<Segment> newSegments = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i += SEGMENT_SIZE) {
+            int end = Math.min(i + SEGMENT_SIZE, tasks.size());
+            Segment segment = new Segment(nextSegmentId++, new ArrayList<>(tasks.subList(i, end)));
+            writeSegment(location, segment);
+            newSegments.add(segment);
+        }
+
+        writeIndex(location, newSegments);
+        deleteUnusedSegments(directory, newSegments);
+        setSegments(newSegments);
+    }
+
+    private void setSegments(List<Segment> newSegments) {
+        segments = newSegments;
+        segmentOfTask = new HashMap<>();
+        for (Segment segment : newSegments) {
+            for (ImmutableTask task : segment.tasks) {
+                segmentOfTask.put(task.getUUID(), segment);
+            }
+            nextSegmentId = Math.max(nextSegmentId, segment.id + 1);
+        }
+    }
+
+    private static List<Segment> readSegments(String location)
+            throws DataConversionException, FileNotFoundException {
+        File index = new File(location);
+        if (!FileUtil.isFileExists(index)) {
+            throw new FileNotFoundException("File not found : " + index.getAbsolutePath());
+        }
+
+        List<Integer> segmentIds = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(index)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a segmented todo list file");
+            }
+
+            short version = in.readShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported segmented todo list version " + version);
+            }
+
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                segmentIds.add(in.readInt());
+            }
+        } catch (IOException e) {
+            throw new DataConversionException(e);
+        }
+
+        List<Segment> segments = new ArrayList<>(segmentIds.size());
+        for (int id : segmentIds) {
+            BinaryTodoListStorage segmentStorage = new BinaryTodoListStorage(getSegmentFile(location, id).getPath());
+            try {
+                segments.add(new Segment(id, new ArrayList<>(segmentStorage.read().getTasks())));
+            } catch (FileNotFoundException e) {
+                throw new DataConversionException(e);
+            }
+        }
+        return segments;
+    }
+
+    private static void writeSegment(String location, Segment segment) throws IOException {
+        File file = getSegmentFile(location, segment.id);
+        File temp = new File(file.getPath() + TEMP_EXTENSION);
+        new BinaryTodoListStorage(temp.getPath()).save(() -> segment.tasks);
+        moveIntoPlace(temp, file);
+    }
+
+    private static void writeIndex(String location, List<Segment> segments) throws IOException {
+        File file = new File(location);
+        File temp = new File(location + TEMP_EXTENSION);
+        FileUtil.createIfMissing(temp);
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeInt(segments.size());
+            for (Segment segment : segments) {
+                out.writeInt(segment.id);
+            }
+        }
+
+        moveIntoPlace(temp, file);
+    }
+
+    private static void moveIntoPlace(File source, File target) throws IOException {
+        try {
+            Files.move(source.toPath(), target.toPath(),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteUnusedSegments(File directory, List<Segment> usedSegments) throws IOException {
+        Set<String> usedNames = new HashSet<>();
+        for (Segment segment : usedSegments) {
+            usedNames.add(segment.id + SEGMENT_EXTENSION);
+        }
+
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+
+        for (File file : files) {
+            if (!usedNames.contains(file.getName())) {
+                Files.deleteIfExists(file.toPath());
+            }
+        }
+    }
+
+    private static int getLastSegmentId(File directory) {
+        int lastId = -1;
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return lastId;
+        }
+
+        for (File file : files) {
+            String name = file.getName();
+            if (name.endsWith(SEGMENT_EXTENSION)) {
+                try {
+                    int id = Integer.parseInt(name.substring(0, name.length() - SEGMENT_EXTENSION.length()));
+                    lastId = Math.max(lastId, id);
+                } catch (NumberFormatException e) {
+                    // Not one of ours, and will be cleaned up after the next full write
+                }
+            }
+        }
+        return lastId;
+    }
+
+    private static File getSegmentDirectory(String location) {
+        return new File(location + SEGMENT_DIRECTORY_EXTENSION);
+    }
+
+    static File getSegmentFile(String location, int id) {
+        return new File(getSegmentDirectory(location), id + SEGMENT_EXTENSION);
+    }
+
+    /**
+     * A run of consecutive tasks in the list that is stored in its own file
+     */
+    private static class Segment {
+        private final int id;
+        private final List<ImmutableTask> tasks;
+
+        Segment(int id, List<ImmutableTask> tasks) {
+            this.id = id;
+            this.tasks = tasks;
+        }
+
+        void replace(ImmutableTask task) {
+            tasks.set(indexOf(task.getUUID()), task);
+        }
+
+        void remove(UUID uuid) {
+            tasks.remove(indexOf(uuid));
+        }
+
+        private int indexOf(UUID uuid) {
+            for (int i = 0; i < tasks.size(); i++) {
+                if (tasks.get(i).getUUID().equals(uuid)) {
+                    return i;
+                }
+            }
+            throw new IllegalStateException("Task " + uuid + " is not in segment " + id);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.todo.storage;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.function.Function;
+
+import seedu.todo.model.ImmutableTodoList;
+
+//@@author A0135817B
+/**
+ * The file formats the todo list can be stored in
+ */
+public enum TodoListFormat {
+    XML("xml", ".xml", TodoListStorage::new),
+    BINARY("binary", ".bin", BinaryTodoListStorage::new),
+    SEGMENTED("segmented", ".seg", SegmentedTodoListStorage::new);
+
+    private final String name;
+    private final String extension;
+    private final Function<String, MovableStorage<ImmutableTodoList>> storageFactory;
+
+    TodoListFormat(String name, String extension, Function<String, MovableStorage<ImmutableTodoList>> factory) {
+        this.name = name;
+        this.extension = extension;
+        this.storageFactory = factory;
+    }
+
+    /**
+     * Creates a storage that reads and writes this format at the location
+     */
+    public MovableStorage<ImmutableTodoList> createStorage(String location) {
+        return storageFactory.apply(location);
+    }
+
+    /**
+     * Gets the format with the name used in the config file, such as "xml" or "binary"
+     */
+    public static Optional<TodoListFormat> fromName(String name) {
+        for (TodoListFormat format : values()) {
+            if (format.name.equalsIgnoreCase(name)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Gets the format that matches the file extension of the location
+     */
+    public static Optional<TodoListFormat> fromExtension(String location) {
+        for (TodoListFormat format : values()) {
+            if (location.toLowerCase().endsWith(format.extension)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Works out the format of an existing file from its first few bytes.
+     * Anything that is not a binary or segmented todo list file is assumed to be XML.
+     */
+    public static TodoListFormat detect(File file) {
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            switch (in.readInt()) {
+                case BinaryTodoListStorage.MAGIC:
+                    return BINARY;
+                case SegmentedTodoListStorage.MAGIC:
+                    return SEGMENTED;
+                default:
+                    return XML;
+            }
+        } catch (IOException e) {
+            return XML;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
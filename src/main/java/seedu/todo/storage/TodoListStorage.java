@@ -3,18 +3,23 @@ package seedu.todo.storage;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
 
 import seedu.todo.commons.exceptions.DataConversionException;
-import seedu.todo.commons.util.FileUtil;
-import seedu.todo.commons.util.XmlUtil;
 import seedu.todo.model.ImmutableTodoList;
-
-import javax.xml.bind.JAXBException;
+import seedu.todo.model.task.ImmutableTask;
 
 /**
- * A class to access TodoList data stored as an xml file on the hard disk.
+ * A class to access TodoList data stored as an xml file on the hard disk. 
+ * Tasks are streamed to and from the file one at a time by {@link XmlTaskReader} 
+ * and {@link XmlTaskWriter}, so the whole file is never held in memory at once, and the
+ * tasks read are converted in parallel by {@link XmlAdaptedTaskConverter}.
  */
 public class TodoListStorage implements MovableStorage<ImmutableTodoList> {
+    private static final String BACKUP_EXTENSION = ".corrupt";
+    private static final String BACKUP_FORMAT = "%s\nA copy of %s with every task was kept at %s";
 
     private String filePath;
 
@@ -36,12 +41,43 @@ public class TodoListStorage implements MovableStorage<ImmutableTodoList> {
     public ImmutableTodoList read(String filePath) throws DataConversionException, FileNotFoundException {
         assert filePath != null;
         File file = new File(filePath);
+        XmlAdaptedTaskConverter converter = new XmlAdaptedTaskConverter();
+
+        try (XmlTaskReader reader = new XmlTaskReader(file)) {
+            XmlAdaptedTask task;
+            while ((task = reader.next()) != null) {
+                converter.add(task);
+            }
+        } catch (FileNotFoundException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new DataConversionException(e);
+        }
+
+        List<ImmutableTask> tasks;
+        try {
+            tasks = converter.getTasks();
+        } catch (CorruptTasksException e) {
+            throw new CorruptTasksException(backUp(file, e.getMessage()), e.getTasks());
+        }
+        return () -> tasks;
+    }
 
+    /**
+     * Copies a file with tasks that could not be read, so they are not lost when the tasks
+     * that could be read are saved over it
+     *
+     * @return the message, with where the copy was kept added to it
+     */
+    private static String backUp(File file, String message) throws DataConversionException {
+        File backup = new File(file.getPath() + BACKUP_EXTENSION);
         try {
-            return XmlUtil.getDataFromFile(file, XmlSerializableTodoList.class);
-        } catch (JAXBException e) {
+            Files.copy(file.toPath(), backup.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            // Without a copy the tasks that could not be read would be lost on the next save
             throw new DataConversionException(e);
         }
+        return String.format(BACKUP_FORMAT, message, file.getPath(), backup.getPath());
     }
     
     @Override
@@ -62,13 +98,10 @@ public class TodoListStorage implements MovableStorage<ImmutableTodoList> {
         assert todoList != null;
         assert filePath != null;
 
-        File file = new File(filePath);
-        FileUtil.createIfMissing(file);
-
-        try {
-            XmlUtil.saveDataToFile(file, new XmlSerializableTodoList(todoList));
-        } catch (JAXBException e) {
-            assert false : "Unexpected exception " + e.getMessage();
+        try (XmlTaskWriter writer = new XmlTaskWriter(new File(filePath))) {
+            for (ImmutableTask task : todoList.getTasks()) {
+                writer.write(new XmlAdaptedTask(task));
+            }
         }
     }
 }
@@ -0,0 +1,505 @@
+package seedu.todo.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.todo.commons.core.LogsCenter;
+import seedu.todo.commons.exceptions.DataConversionException;
+import seedu.todo.commons.util.FileUtil;
+import seedu.todo.model.UndoStep;
+import seedu.todo.model.task.ImmutableTask;
+
+//@@author A0135817B
+/**
+ * Keeps the undo history of a todo list in an append-only log file beside it, so undo
+ * and redo still work after a restart. Every step recorded, undone or redone appends a
+ * small record to the log, and reading the log replays the records to rebuild the undo
+ * and redo stacks.
+ *
+ * All file access happens on a single writer thread, in the order the calls were made,
+ * so appending never holds up the thread that made the change, and a read always sees
+ * every record appended before it. Each record carries a checksum, so a record that was
+ * only partly written when the app was closed is ignored along with everything after it.
+ *
+ * The log grows with every command, so {@link #truncate(long)} rewrites it with only
+ * the most recent steps.
+ */
+public class UndoLogStorage {
+    private static final String LOG_EXTENSION = ".undo";
+    private static final String TEMP_EXTENSION = ".tmp";
+    private static final int MAGIC = 0x554A5455; // "UJTU"
+    private static final short VERSION = 1;
+
+    private static final byte STEP = 1;
+    private static final byte UNDO = 2;
+    private static final byte REDO = 3;
+    private static final byte CLEAR = 4;
+
+    private static final int HAS_BEFORE = 1;
+    private static final int HAS_AFTER = 1 << 1;
+    private static final int HAS_BEFORE_PREDECESSOR = 1 << 2;
+    private static final int HAS_AFTER_PREDECESSOR = 1 << 3;
+
+    private static final Logger logger = LogsCenter.getLogger(UndoLogStorage.class);
+
+    private final Executor writer;
+    private File file;
+
+    /**
+     * Set once a record could not be appended, since the log no longer matches the history
+     * after that. Only accessed on the writer thread.
+     */
+    private boolean isIncomplete;
+
+    /**
+     * The undo and redo stacks rebuilt from the log, with the most recent step first
+     */
+    public static class History {
+        private final Deque<UndoStep> undoSteps = new ArrayDeque<>();
+        private final Deque<UndoStep> redoSteps = new ArrayDeque<>();
+        private boolean isTruncated;
+
+        public List<UndoStep> getUndoSteps() {
+            return Collections.unmodifiableList(new ArrayList<>(undoSteps));
+        }
+
+        public List<UndoStep> getRedoSteps() {
+            return Collections.unmodifiableList(new ArrayList<>(redoSteps));
+        }
+
+        private void replay(byte type, UndoStep step) {
+            switch (type) {
+                case STEP:
+                    undoSteps.addFirst(step);
+                    redoSteps.clear();
+                    break;
+                case UNDO:
+                    if (!undoSteps.isEmpty()) {
+                        redoSteps.addFirst(undoSteps.removeFirst());
+                    }
+                    break;
+                case REDO:
+                    if (!redoSteps.isEmpty()) {
+                        undoSteps.addFirst(redoSteps.removeFirst());
+                    }
+                    break;
+                default:
+                    undoSteps.clear();
+                    redoSteps.clear();
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Creates an undo log for the todo list that uses its own writer thread
+     *
+     * @param todoListLocation  the location of the todo list the undo log belongs to
+     */
+    public UndoLogStorage(String todoListLocation) {
+        this(todoListLocation, createWriter());
+    }
+
+    /**
+     * @param todoListLocation  the location of the todo list the undo log belongs to
+     * @param writer            the executor all file access happens on, which must run tasks one at a time
+     */
+    public UndoLogStorage(String todoListLocation, Executor writer) {
+        this.file = getLogFile(todoListLocation);
+        this.writer = writer;
+    }
+
+    private static ExecutorService createWriter() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Undo log writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public String getLocation() {
+        return file.getPath();
+    }
+
+    /**
+     * Waits for every record appended so far to be written
+     */
+    public void flush() {
+        CompletableFuture.runAsync(() -> {}, writer).join();
+    }
+
+    public void appendStep(UndoStep step) {
+        append(STEP, step);
+    }
+
+    public void appendUndo() {
+        append(UNDO, null);
+    }
+
+    public void appendRedo() {
+        append(REDO, null);
+    }
+
+    /**
+     * Records that the undo history was cleared, such as when another todo list was loaded
+     */
+    public void appendClear() {
+        append(CLEAR, null);
+    }
+
+    private void append(byte type, UndoStep step) {
+        writer.execute(() -> {
+            if (isIncomplete) {
+                return;
+            }
+
+            try {
+                boolean isNew = !file.exists();
+                if (isNew) {
+                    FileUtil.createParentDirsOfFile(file);
+                }
+                try (DataOutputStream out = new DataOutputStream(
+                        new BufferedOutputStream(new FileOutputStream(file, true)))) {
+                    if (isNew) {
+                        writeHeader(out);
+                    }
+                    writeRecord(out, type, step);
+                }
+            } catch (IOException e) {
+                logger.warning("Couldn't append to the undo log at " + file + ": " + e.getMessage());
+                isIncomplete = true;
+            }
+        });
+    }
+
+    /**
+     * Reads the undo history from the log, waiting for every record appended before
+     * this to be written first. A log that does not exist yet is an empty history.
+     *
+     * @throws DataConversionException if the log could not be read, or does not contain
+     * every step recorded since the app started
+     */
+    public History read() throws DataConversionException {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                if (isIncomplete) {
+                    throw new CompletionException(new IOException("Some steps could not be written to the undo log"));
+                }
+                try {
+                    return readHistory();
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+            }, writer).join();
+        } catch (CompletionException e) {
+            throw new DataConversionException((Exception) e.getCause());
+        }
+    }
+
+    /**
+     * Rewrites the log in the background with only the most recent steps that fit in about
+     * <code>maxBytes</code> bytes. Steps that can be redone are always kept. The log is only
+     * rewritten if it is much larger than that, or ends with an incomplete record that
+     * would hide any record appended after it.
+     */
+    public void truncate(long maxBytes) {
+        writer.execute(() -> {
+            if (isIncomplete || !file.exists()) {
+                return;
+            }
+
+            try {
+                History history = readHistory();
+                if (!history.isTruncated && file.length() <= maxBytes * 2) {
+                    return;
+                }
+
+                List<byte[]> redoRecords = new ArrayList<>();
+                for (UndoStep step : history.redoSteps) {
+                    redoRecords.add(encodeStep(step));
+                }
+
+                long size = 0;
+                for (byte[] record : redoRecords) {
+                    size += record.length;
+                }
+
+                Deque<byte[]> undoRecords = new ArrayDeque<>();
+                for (UndoStep step : history.undoSteps) {
+                    byte[] record = encodeStep(step);
+                    size += record.length;
+                    if (size > maxBytes) {
+                        break;
+                    }
+                    undoRecords.addFirst(record);
+                }
+
+                writeLog(undoRecords, redoRecords);
+                logger.info("Truncated the undo log at " + file + " to " + undoRecords.size() + " steps");
+            } catch (IOException e) {
+                logger.warning("Couldn't truncate the undo log at " + file + ": " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Writes a new log that rebuilds the given steps, oldest first. To end up with the redo steps
+     * in the right order, they are recorded as steps starting with the next one to redo, and
+     * then undone again.
+     */
+    private void writeLog(Iterable<byte[]> undoRecords, List<byte[]> redoRecords) throws IOException {
+        File temp = new File(file.getPath() + TEMP_EXTENSION);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+            writeHeader(out);
+            for (byte[] record : undoRecords) {
+                writeRecord(out, STEP, record);
+            }
+            for (byte[] record : redoRecords) {
+                writeRecord(out, STEP, record);
+            }
+            for (int i = 0; i < redoRecords.size(); i++) {
+                writeRecord(out, UNDO, new byte[0]);
+            }
+        }
+
+        try {
+            Files.move(temp.toPath(), file.toPath(),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Moves the log to follow the todo list to its new location, replacing any log
+     * already there since it belongs to the file the todo list was saved over
+     */
+    public void moveTo(String todoListLocation) {
+        File newFile = getLogFile(todoListLocation);
+        writer.execute(() -> {
+            if (newFile.getAbsoluteFile().equals(file.getAbsoluteFile())) {
+                return;
+            }
+
+            try {
+                if (file.exists()) {
+                    FileUtil.createParentDirsOfFile(newFile);
+                    Files.move(file.toPath(), newFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                } else {
+                    Files.deleteIfExists(newFile.toPath());
+                }
+            } catch (IOException e) {
+                logger.warning("Couldn't move the undo log to " + newFile + ": " + e.getMessage());
+                isIncomplete = true;
+            }
+            file = newFile;
+        });
+    }
+
+    private History readHistory() throws IOException {
+        History history = new History();
+        if (!file.exists()) {
+            return history;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not an undo log file");
+            }
+            short version = in.readShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported undo log version " + version);
+            }
+
+            Optional<Record> record;
+            while ((record = readRecord(in, history)).isPresent()) {
+                history.replay(record.get().type, record.get().step);
+            }
+        }
+        return history;
+    }
+
+    private static class Record {
+        final byte type;
+        final UndoStep step;
+
+        Record(byte type, UndoStep step) {
+            this.type = type;
+            this.step = step;
+        }
+    }
+
+    /**
+     * Reads the next record, or returns empty at the end of the log or at a record that
+     * was not completely written, in which case the history is marked as truncated
+     */
+    private Optional<Record> readRecord(DataInputStream in, History history) throws IOException {
+        int type = in.read();
+        if (type == -1) {
+            return Optional.empty();
+        }
+
+        byte[] payload;
+        try {
+            int length = in.readInt();
+            if (length < 0 || length > file.length()) {
+                throw new EOFException();
+            }
+            payload = new byte[length];
+            in.readFully(payload);
+
+            long checksum = in.readInt() & 0xFFFFFFFFL;
+            if (checksum != checksum((byte) type, payload)) {
+                throw new EOFException();
+            }
+        } catch (EOFException e) {
+            logger.warning("Ignoring the incomplete end of the undo log at " + file);
+            history.isTruncated = true;
+            return Optional.empty();
+        }
+
+        UndoStep step = type == STEP ? decodeStep(payload) : null;
+        return Optional.of(new Record((byte) type, step));
+    }
+
+    private static void writeHeader(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+    }
+
+    private static void writeRecord(DataOutputStream out, byte type, UndoStep step) throws IOException {
+        writeRecord(out, type, step == null ? new byte[0] : encodeStep(step));
+    }
+
+    private static void writeRecord(DataOutputStream out, byte type, byte[] payload) throws IOException {
+        out.writeByte(type);
+        out.writeInt(payload.length);
+        out.write(payload);
+        out.writeInt((int) checksum(type, payload));
+    }
+
+    private static long checksum(byte type, byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(type);
+        crc.update(payload);
+        return crc.getValue();
+    }
+
+    /**
+     * Encodes the changes of a step, followed by the tasks before and after the step
+     * in the binary todo list format
+     */
+    private static byte[] encodeStep(UndoStep step) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        List<ImmutableTask> before = new ArrayList<>();
+        List<ImmutableTask> after = new ArrayList<>();
+
+        out.writeInt(step.getChanges().size());
+        for (UndoStep.Change change : step.getChanges()) {
+            writeUUID(out, change.getUUID());
+
+            int flags = (change.getBefore().isPresent() ? HAS_BEFORE : 0)
+                | (change.getAfter().isPresent() ? HAS_AFTER : 0)
+                | (change.getBeforePredecessor().isPresent() ? HAS_BEFORE_PREDECESSOR : 0)
+                | (change.getAfterPredecessor().isPresent() ? HAS_AFTER_PREDECESSOR : 0);
+            out.writeByte(flags);
+
+            if (change.getBeforePredecessor().isPresent()) {
+                writeUUID(out, change.getBeforePredecessor().get());
+            }
+            if (change.getAfterPredecessor().isPresent()) {
+                writeUUID(out, change.getAfterPredecessor().get());
+            }
+            change.getBefore().ifPresent(before::add);
+            change.getAfter().ifPresent(after::add);
+        }
+
+        BinaryTodoListStorage.writeTasks(out, before);
+        BinaryTodoListStorage.writeTasks(out, after);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static UndoStep decodeStep(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+
+        int size = in.readInt();
+        if (size < 0 || size > payload.length) {
+            throw new IOException("Invalid undo step");
+        }
+
+        UUID[] uuids = new UUID[size];
+        int[] flags = new int[size];
+        UUID[] beforePredecessors = new UUID[size];
+        UUID[] afterPredecessors = new UUID[size];
+        for (int i = 0; i < size; i++) {
+            uuids[i] = readUUID(in);
+            flags[i] = in.readByte();
+            if ((flags[i] & HAS_BEFORE_PREDECESSOR) != 0) {
+                beforePredecessors[i] = readUUID(in);
+            }
+            if ((flags[i] & HAS_AFTER_PREDECESSOR) != 0) {
+                afterPredecessors[i] = readUUID(in);
+            }
+        }
+
+        Iterator<ImmutableTask> before;
+        Iterator<ImmutableTask> after;
+        try {
+            before = BinaryTodoListStorage.readTasks(in).iterator();
+            after = BinaryTodoListStorage.readTasks(in).iterator();
+        } catch (DataConversionException e) {
+            throw new IOException("Invalid task in undo step", e);
+        }
+
+        List<UndoStep.Change> changes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            changes.add(new UndoStep.Change(uuids[i],
+                (flags[i] & HAS_BEFORE) != 0 ? before.next() : null,
+                (flags[i] & HAS_AFTER) != 0 ? after.next() : null,
+                beforePredecessors[i], afterPredecessors[i]));
+        }
+        return new UndoStep(changes);
+    }
+
+    private static void writeUUID(DataOutputStream out, UUID uuid) throws IOException {
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID readUUID(DataInputStream in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+
+    private static File getLogFile(String todoListLocation) {
+        return new File(todoListLocation + LOG_EXTENSION);
+    }
+}
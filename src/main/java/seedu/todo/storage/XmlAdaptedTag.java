@@ -2,9 +2,12 @@ package seedu.todo.storage;
 
 import seedu.todo.commons.exceptions.IllegalValueException;
 import seedu.todo.model.tag.Tag;
+import seedu.todo.model.tag.UniqueTagCollection;
 
 import javax.xml.bind.annotation.XmlValue;
 
+import java.util.Objects;
+
 /**
  * JAXB-friendly adapted version of the Tag.
  */
@@ -33,7 +36,17 @@ public class XmlAdaptedTag {
      * @throws IllegalValueException if there were any data constraints violated in the adapted person
      */
     public Tag toModelType() throws IllegalValueException {
-        return new Tag(tagName);
+        return UniqueTagCollection.intern(tagName);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+            || (other instanceof XmlAdaptedTag && Objects.equals(tagName, ((XmlAdaptedTag) other).tagName));
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(tagName);
+    }
 }
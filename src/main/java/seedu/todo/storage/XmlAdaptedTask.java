@@ -1,7 +1,9 @@
 package seedu.todo.storage;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 
@@ -9,6 +11,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 
 import seedu.todo.commons.exceptions.IllegalValueException;
+import seedu.todo.commons.util.StringUtil;
 import seedu.todo.model.tag.Tag;
 import seedu.todo.model.task.ImmutableTask;
 import seedu.todo.model.task.Task;
@@ -76,6 +79,60 @@ public class XmlAdaptedTask {
         uuid = source.getUUID();
     }
 
+    /**
+     * Returns true if this adapted task holds exactly the same values as {@code task}
+     */
+    public boolean hasSameValues(ImmutableTask task) {
+        return Objects.equals(title, task.getTitle())
+            && Objects.equals(description, task.getDescription().orElse(null))
+            && Objects.equals(location, task.getLocation().orElse(null))
+            && pinned == task.isPinned()
+            && completed == task.isCompleted()
+            && Objects.equals(startTime, task.getStartTime().orElse(null))
+            && Objects.equals(endTime, task.getEndTime().orElse(null))
+            && Objects.equals(lastUpdated, task.getCreatedAt())
+            && Objects.equals(uuid, task.getUUID())
+            && hasSameTags(task.getTags());
+    }
+
+    private boolean hasSameTags(Set<Tag> otherTags) {
+        if (tags.size() != otherTags.size()) {
+            return false;
+        }
+        
+        for (Tag tag : otherTags) {
+            if (!tags.contains(new XmlAdaptedTag(tag))) {
+                return false;
+            }
+        }
+        
+        return true;
+    }
+
+    /**
+     * Writes the fields of this task as elements, in the same order and format JAXB uses
+     * for the annotated fields above. Remember to update this when adding fields.
+     */
+    void writeElements(XmlTaskWriter writer) throws IOException {
+        writer.writeElement("title", title);
+        writer.writeElement("description", description);
+        writer.writeElement("location", location);
+        writer.writeElement("pinned", pinned);
+        writer.writeElement("completed", completed);
+        writer.writeElement("startTime", startTime);
+        writer.writeElement("endTime", endTime);
+        writer.writeElement("lastUpdated", lastUpdated);
+        writer.writeElement("uuid", uuid);
+
+        for (XmlAdaptedTag tag : tags) {
+            writer.writeElement("tags", tag.tagName);
+        }
+    }
+
+    public UUID getUUID() {
+        return uuid;
+    }
+
     /**
      * Converts this jaxb-friendly adapted task object into the model's Task
      * object.
@@ -85,7 +142,11 @@ public class XmlAdaptedTask {
      *             person
      */
     public Task toModelType() throws IllegalValueException {
-        Task task = new Task(title);
+        if (StringUtil.isEmpty(title)) {
+            throw new IllegalValueException("Task " + uuid + " has no title");
+        }
+
+        Task task = uuid == null ? new Task(title) : new Task(title, uuid);
         task.setDescription(description);
         task.setLocation(location);
 
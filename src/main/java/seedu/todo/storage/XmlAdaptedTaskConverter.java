@@ -0,0 +1,104 @@
+package seedu.todo.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.todo.commons.core.LogsCenter;
+import seedu.todo.commons.exceptions.IllegalValueException;
+import seedu.todo.model.task.ImmutableTask;
+
+//@@author A0135817B
+/**
+ * Converts {@link XmlAdaptedTask} records into tasks. Records are collected into chunks
+ * of {@link #CHUNK_SIZE}, and each full chunk is converted on the common fork-join pool
+ * while the following records are still being read, so a large file is parsed and
+ * converted at the same time. The tasks are returned in the order the records were added.
+ *
+ * Records that cannot be converted are reported once every record is converted, through a
+ * {@link CorruptTasksException} that gives their position in the file so the user can find
+ * and fix them, along with the tasks that could be converted.
+ */
+class XmlAdaptedTaskConverter {
+    static final int CHUNK_SIZE = 1024;
+
+    private static final String CORRUPT_RECORDS_FORMAT = "Task no. %s in the file could not be read: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(XmlAdaptedTaskConverter.class);
+
+    private final List<ForkJoinTask<List<ImmutableTask>>> convertedChunks = new ArrayList<>();
+    private List<XmlAdaptedTask> chunk = new ArrayList<>();
+    private int chunkStart;
+
+    /**
+     * The reason each record that could not be converted was rejected, by its position in the file
+     */
+    private final Map<Integer, String> errors = new ConcurrentSkipListMap<>();
+
+    /**
+     * Converts every record, in parallel if there are enough of them
+     */
+    static List<ImmutableTask> convert(List<XmlAdaptedTask> records) throws CorruptTasksException {
+        XmlAdaptedTaskConverter converter = new XmlAdaptedTaskConverter();
+        records.forEach(converter::add);
+        return converter.getTasks();
+    }
+
+    void add(XmlAdaptedTask record) {
+        chunk.add(record);
+        if (chunk.size() == CHUNK_SIZE) {
+            List<XmlAdaptedTask> fullChunk = chunk;
+            int start = chunkStart;
+            convertedChunks.add(ForkJoinPool.commonPool().submit(() -> convertChunk(fullChunk, start)));
+
+            chunk = new ArrayList<>();
+            chunkStart += CHUNK_SIZE;
+        }
+    }
+
+    /**
+     * Waits for every chunk to be converted and returns the tasks in the order their records were added
+     *
+     * @throws CorruptTasksException if any record could not be converted
+     */
+    List<ImmutableTask> getTasks() throws CorruptTasksException {
+        // The last chunk is converted on this thread rather than waiting for it on the pool
+        List<ImmutableTask> lastChunk = convertChunk(chunk, chunkStart);
+        List<ImmutableTask> tasks = lastChunk;
+        if (!convertedChunks.isEmpty()) {
+            tasks = new ArrayList<>(chunkStart + lastChunk.size());
+            for (ForkJoinTask<List<ImmutableTask>> convertedChunk : convertedChunks) {
+                tasks.addAll(convertedChunk.join());
+            }
+            tasks.addAll(lastChunk);
+        }
+
+        if (!errors.isEmpty()) {
+            String positions = errors.keySet().stream().map(String::valueOf).collect(Collectors.joining(", "));
+            String message = String.format(CORRUPT_RECORDS_FORMAT, positions, errors.values().iterator().next());
+            throw new CorruptTasksException(message, tasks);
+        }
+        return tasks;
+    }
+
+    private List<ImmutableTask> convertChunk(List<XmlAdaptedTask> records, int start) {
+        List<ImmutableTask> tasks = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            try {
+                tasks.add(records.get(i).toModelType());
+            } catch (IllegalValueException e) {
+                // This likely means that the task format changed between versions of the app.
+                // There's no good way to migrate data yet, so the user is told about the task.
+                logger.warning(String.format("Task no. %d in the file could not be read: %s",
+                    start + i + 1, e.getMessage()));
+                errors.put(start + i + 1, e.getMessage());
+            }
+        }
+        return tasks;
+    }
+}
@@ -7,7 +7,6 @@ import java.util.stream.Collectors;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 
-import seedu.todo.commons.exceptions.IllegalValueException;
 import seedu.todo.model.ImmutableTodoList;
 import seedu.todo.model.task.ImmutableTask;
 
@@ -39,17 +38,11 @@ public class XmlSerializableTodoList implements ImmutableTodoList {
 
     @Override
     public List<ImmutableTask> getTasks() {
-        return tasks.stream().map(p -> {
-            try {
-                return p.toModelType();
-            } catch (IllegalValueException e) {
-                e.printStackTrace();
-                // This likely means that the task format changed between versions of 
-                // the app. Unfortunately there's no good way to migrate data yet, 
-                // so unfortunately we will lose some data here
-                return null;
-            }
-        }).filter(task -> task != null)
-            .collect(Collectors.toCollection(ArrayList::new));
+        try {
+            return XmlAdaptedTaskConverter.convert(tasks);
+        } catch (CorruptTasksException e) {
+            // Nothing can be returned without dropping the tasks that could not be read
+            throw new IllegalStateException(e.getMessage(), e);
+        }
     }
 }
@@ -0,0 +1,114 @@
+package seedu.todo.storage;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import seedu.todo.commons.exceptions.DataConversionException;
+import seedu.todo.commons.util.FileUtil;
+import seedu.todo.commons.util.XmlUtil;
+
+//@@author A0135817B
+/**
+ * Reads the tasks in a todo list XML file one at a time, so that the whole file never
+ * has to be held in memory as a {@link XmlSerializableTodoList}. The file format is the
+ * same one {@link XmlSerializableTodoList} is marshalled to and from.
+ */
+public class XmlTaskReader implements AutoCloseable {
+    static final String ROOT_ELEMENT = "todolist";
+    static final String TASK_ELEMENT = "tasks";
+
+    private static final XMLInputFactory inputFactory = XMLInputFactory.newInstance();
+
+    static {
+        inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    private final InputStream input;
+    private final XMLStreamReader reader;
+    private final Unmarshaller unmarshaller;
+
+    /**
+     * Opens the file and positions the reader at the start of the todo list
+     *
+     * @throws FileNotFoundException if the file does not exist
+     * @throws DataConversionException if the file is not a todo list XML file
+     */
+    public XmlTaskReader(File file) throws FileNotFoundException, DataConversionException {
+        assert file != null;
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+        }
+
+        input = new BufferedInputStream(new FileInputStream(file));
+
+        try {
+            reader = inputFactory.createXMLStreamReader(input);
+            unmarshaller = XmlUtil.getContext(XmlAdaptedTask.class).createUnmarshaller();
+
+            reader.nextTag();
+            if (!ROOT_ELEMENT.equals(reader.getLocalName())) {
+                throw new DataConversionException(
+                    new IllegalArgumentException("Unexpected root element " + reader.getLocalName()));
+            }
+            reader.next();
+        } catch (XMLStreamException | JAXBException e) {
+            closeQuietly();
+            throw new DataConversionException(e);
+        } catch (DataConversionException e) {
+            closeQuietly();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the next task in the file
+     *
+     * @return the next task, or null if there are no more tasks
+     * @throws DataConversionException if the task could not be read
+     */
+    public XmlAdaptedTask next() throws DataConversionException {
+        try {
+            while (reader.hasNext()) {
+                if (reader.isStartElement() && TASK_ELEMENT.equals(reader.getLocalName())) {
+                    return unmarshaller.unmarshal(reader, XmlAdaptedTask.class).getValue();
+                }
+                reader.next();
+            }
+        } catch (XMLStreamException | JAXBException e) {
+            throw new DataConversionException(e);
+        }
+
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        } finally {
+            input.close();
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            input.close();
+        } catch (IOException e) {
+            // Already failing, so the original exception is more useful
+        }
+    }
+}
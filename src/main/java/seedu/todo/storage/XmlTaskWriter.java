@@ -0,0 +1,96 @@
+package seedu.todo.storage;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import seedu.todo.commons.util.FileUtil;
+
+//@@author A0135817B
+/**
+ * Writes tasks to a todo list XML file one at a time. The output is byte for byte
+ * the same as what JAXB produces when marshalling a {@link XmlSerializableTodoList}
+ * with formatted output, so files written by either can be read by the other.
+ */
+public class XmlTaskWriter implements AutoCloseable {
+    private static final String HEADER = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+    private static final String INDENT = "    ";
+
+    private final Writer writer;
+    private boolean isEmpty = true;
+
+    /**
+     * Creates the file if it is missing and starts writing the todo list to it,
+     * replacing anything that was in the file
+     */
+    public XmlTaskWriter(File file) throws IOException {
+        assert file != null;
+
+        FileUtil.createIfMissing(file);
+        writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8));
+        writer.write(HEADER);
+        writer.write("<" + XmlTaskReader.ROOT_ELEMENT);
+    }
+
+    public void write(XmlAdaptedTask task) throws IOException {
+        if (isEmpty) {
+            writer.write(">\n");
+            isEmpty = false;
+        }
+
+        writer.write(INDENT + "<" + XmlTaskReader.TASK_ELEMENT + ">\n");
+        task.writeElements(this);
+        writer.write(INDENT + "</" + XmlTaskReader.TASK_ELEMENT + ">\n");
+    }
+
+    /**
+     * Writes a single field of a task as an element. Null values are left out.
+     */
+    void writeElement(String name, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+
+        writer.write(INDENT + INDENT + "<" + name + ">");
+        writeEscaped(value.toString());
+        writer.write("</" + name + ">\n");
+    }
+
+    /**
+     * Escapes text the same way the JAXB reference implementation does
+     */
+    private void writeEscaped(String text) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&':
+                    writer.write("&amp;");
+                    break;
+                case '<':
+                    writer.write("&lt;");
+                    break;
+                case '>':
+                    writer.write("&gt;");
+                    break;
+                case '\r':
+                    writer.write("&#13;");
+                    break;
+                default:
+                    writer.write(c);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            writer.write(isEmpty ? "/>\n" : "</" + XmlTaskReader.ROOT_ELEMENT + ">\n");
+        } finally {
+            writer.close();
+        }
+    }
+}
@@ -12,6 +12,7 @@ import seedu.todo.commons.events.ui.ExitAppRequestEvent;
 import seedu.todo.logic.Logic;
 import seedu.todo.model.Model;
 import seedu.todo.model.UserPrefs;
+import seedu.todo.model.property.TaskViewFilter;
 import seedu.todo.ui.controller.CommandController;
 import seedu.todo.ui.util.UiPartLoaderUtil;
 import seedu.todo.ui.view.*;
@@ -57,6 +58,7 @@ public class MainWindow extends UiPart {
     @FXML private AnchorPane helpViewPlaceholder;
     @FXML private AnchorPane filterBarViewPlaceholder;
     @FXML private AnchorPane searchStatusViewPlaceholder;
+    @FXML private AnchorPane loadingStatusViewPlaceholder;
     @FXML private AnchorPane emptyListPlaceholder;
 
     /**
@@ -99,10 +101,16 @@ public class MainWindow extends UiPart {
         commandErrorView = CommandErrorView.load(primaryStage, commandErrorViewPlaceholder);
         globalTagView = GlobalTagView.load(primaryStage, globalTagViewPlaceholder);
         todoListView = TodoListView.load(primaryStage, todoListViewPlaceholder, model.getObservableList());
+        todoListView.setOnEndReached(() -> {
+            if (model.getViewFilter().get() == TaskViewFilter.COMPLETED) {
+                model.loadMoreArchived();
+            }
+        });
 
         EmptyListView.load(primaryStage, emptyListPlaceholder, model.getObservableList(), model.getViewFilter());
-        FilterBarView.load(primaryStage, filterBarViewPlaceholder, model.getViewFilter());
+        FilterBarView.load(primaryStage, filterBarViewPlaceholder, model.getViewFilter(), model::getTaskCount);
         SearchStatusView.load(primaryStage, searchStatusViewPlaceholder, model.getSearchStatus());
+        LoadingStatusView.load(primaryStage, loadingStatusViewPlaceholder, model.getLoadProgress());
         
         //Constructs a command communication link between the commandXViews and logic.
         CommandController.constructLink(logic,
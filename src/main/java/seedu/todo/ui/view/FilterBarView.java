@@ -1,5 +1,7 @@
 package seedu.todo.ui.view;
 
+import javafx.beans.binding.Bindings;
+import javafx.beans.value.ObservableIntegerValue;
 import javafx.beans.value.ObservableValue;
 import javafx.scene.Node;
 import javafx.scene.control.Label;
@@ -18,6 +20,7 @@ import seedu.todo.ui.util.ViewStyleUtil;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
 //@@author A0135805H
@@ -35,6 +38,7 @@ public class FilterBarView extends UiPart {
 
     /* Variables */
     private Map<TaskViewFilter, HBox> taskFilterBoxesMap = new HashMap<>();
+    private Function<TaskViewFilter, ObservableIntegerValue> taskCounts;
 
     /* Layout Initialisation */
     /**
@@ -44,10 +48,12 @@ public class FilterBarView extends UiPart {
      * @return an instance of this class
      */
     public static FilterBarView load(Stage primaryStage, AnchorPane placeholder,
-                                     ObservableValue<TaskViewFilter> filter) {
+                                     ObservableValue<TaskViewFilter> filter,
+                                     Function<TaskViewFilter, ObservableIntegerValue> taskCounts) {
 
         FilterBarView filterView = UiPartLoaderUtil
                 .loadUiPart(primaryStage, placeholder, new FilterBarView());
+        filterView.taskCounts = taskCounts;
         filterView.configureLayout();
         filterView.configureProperties();
         filterView.bindListener(filter);
@@ -103,7 +109,14 @@ public class FilterBarView extends UiPart {
         Label rightLabel = new Label(partitionedText[2]);
         ViewStyleUtil.addClassStyles(centreLabel, ViewStyleUtil.STYLE_UNDERLINE);
 
-        HBox textContainer = new HBox(leftLabel, centreLabel, rightLabel);
+        //@@author A0135817B
+        // The number of tasks in each view is kept up to date by the model
+        Label countLabel = new Label();
+        countLabel.textProperty().bind(Bindings.convert(taskCounts.apply(filter)));
+        countLabel.getStyleClass().add("viewFilterCount");
+
+        //@@author A0135805H
+        HBox textContainer = new HBox(leftLabel, centreLabel, rightLabel, countLabel);
         textContainer.getStyleClass().add("viewFilterItem");
         return textContainer;
     }
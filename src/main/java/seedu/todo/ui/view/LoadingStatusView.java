@@ -0,0 +1,55 @@
+package seedu.todo.ui.view;
+
+import javafx.beans.value.ObservableValue;
+import javafx.fxml.FXML;
+import javafx.scene.Node;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.AnchorPane;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+import seedu.todo.ui.UiPart;
+import seedu.todo.ui.util.FxViewUtil;
+import seedu.todo.ui.util.UiPartLoaderUtil;
+
+//@@author A0135817B
+/**
+ * Shows the progress of loading the todo list while tasks are still being added in the background
+ */
+public class LoadingStatusView extends UiPart {
+    private static final String FXML = "LoadingStatusView.fxml";
+
+    @FXML private ProgressBar loadProgress;
+
+    private StackPane node;
+
+    public static LoadingStatusView load(Stage stage, AnchorPane placeholder, ObservableValue<Number> progress) {
+        LoadingStatusView view = UiPartLoaderUtil.loadUiPart(stage, placeholder, new LoadingStatusView());
+        view.configureLayOut();
+        view.bindListeners(progress);
+        return view;
+    }
+
+    private void configureLayOut() {
+        FxViewUtil.applyAnchorBoundaryParameters(node, 0.0, 0.0, 0.0, 0.0);
+    }
+
+    private void bindListeners(ObservableValue<Number> progress) {
+        progress.addListener((observable, oldValue, newValue) -> updateProgress(newValue.doubleValue()));
+        updateProgress(progress.getValue().doubleValue());
+    }
+
+    private void updateProgress(double progress) {
+        FxViewUtil.setCollapsed(node, progress >= 1);
+        loadProgress.setProgress(progress);
+    }
+
+    @Override
+    public void setNode(Node node) {
+        this.node = (StackPane) node;
+    }
+
+    @Override
+    public String getFxmlPath() {
+        return LoadingStatusView.FXML;
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.todo.ui.view;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.geometry.Insets;
@@ -32,6 +33,13 @@ public class TodoListView extends UiPart {
     private VBox panel;
     @FXML private ListView<ImmutableTask> todoListView;
 
+    //@@author A0135817B
+    /**
+     * Called when the last task is shown, once for each number of tasks in the list
+     */
+    private Runnable onEndReached = () -> { };
+    private int endReachedSize = -1;
+
     //@@author A0135805H-reused
     /**
      * Default Constructor for {@link TodoListView}
@@ -92,6 +100,16 @@ public class TodoListView extends UiPart {
         }
     }
 
+    //@@author A0135817B
+    /**
+     * Sets the action run when the user scrolls to the end of the list, such as loading
+     * more tasks into it
+     */
+    public void setOnEndReached(Runnable onEndReached) {
+        this.onEndReached = onEndReached;
+    }
+
+    //@@author A0135805H
     /**
      * Scrolls the {@link #todoListView} to the particular task card.
      *
@@ -135,6 +153,20 @@ public class TodoListView extends UiPart {
                 TaskCardView taskCardView = TaskCardView.load(task, FxViewUtil.convertToUiIndex(getIndex()));
                 setGraphic(taskCardView.getLayout());
                 setTaskCardStyleProperties(taskCardView);
+                checkEndReached();
+            }
+        }
+
+        //@@author A0135817B
+        /**
+         * Runs {@link #onEndReached} if this is the last cell, unless it already ran for a list
+         * of this size. It runs later since the list must not change while its cells are updated.
+         */
+        private void checkEndReached() {
+            int size = getListView().getItems().size();
+            if (getIndex() == size - 1 && size != endReachedSize) {
+                endReachedSize = size;
+                Platform.runLater(onEndReached);
             }
         }
 
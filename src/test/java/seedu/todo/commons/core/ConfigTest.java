@@ -20,7 +20,10 @@ public class ConfigTest {
                 "Current log level : INFO\n" +
                 "Preference file Location : preferences.json\n" +
                 "Local data file location : data/todolist.xml\n" +
-                "Todo List name : My Todo List";
+                "Todo List name : My Todo List\n" +
+                "Local data file format : xml\n" +
+                "Archive completed tasks after (days) : 30\n" +
+                "Undo history memory budget (kB) : 1024";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
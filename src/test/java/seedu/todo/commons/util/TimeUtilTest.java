@@ -1,6 +1,7 @@
 package seedu.todo.commons.util;
 
 import org.junit.Test;
+import seedu.todo.testutil.TaskBuilder;
 
 import java.time.LocalDateTime;
 import java.time.Month;
@@ -293,6 +294,35 @@ public class TimeUtilTest {
         assertTrue(timeUtil.isOverdue(laterEndTime));
     }
 
+    //@@author A0135817B
+    @Test
+    public void isToday_task() {
+        TimeUtil timeUtil = new TimeUtil();
+        LocalDateTime now = LocalDateTime.of(2016, Month.DECEMBER, 12, 12, 34);
+        timeUtil.setNow(now);
+        
+        assertFalse(timeUtil.isToday(TaskBuilder.name("Floating").build()));
+        assertTrue(timeUtil.isToday(TaskBuilder.name("Due today").due(now.plusHours(11)).build()));
+        assertFalse(timeUtil.isToday(TaskBuilder.name("Due tomorrow").due(now.plusHours(12)).build()));
+        assertTrue(timeUtil.isToday(TaskBuilder.name("Event today").event(now, now.plusHours(1)).build()));
+    }
+    
+    @Test
+    public void isToday_eventSpanningMidnight() {
+        TimeUtil timeUtil = new TimeUtil();
+        LocalDateTime midnight = LocalDateTime.of(2016, Month.DECEMBER, 12, 0, 0);
+        timeUtil.setNow(midnight.plusHours(12));
+        
+        assertTrue(timeUtil.isToday(TaskBuilder.name("Started yesterday")
+            .event(midnight.minusHours(2), midnight.plusHours(2)).build()));
+        assertTrue(timeUtil.isToday(TaskBuilder.name("Ends tomorrow")
+            .event(midnight.plusHours(22), midnight.plusHours(26)).build()));
+        assertTrue(timeUtil.isToday(TaskBuilder.name("All week")
+            .event(midnight.minusDays(3), midnight.plusDays(3)).build()));
+        assertFalse(timeUtil.isToday(TaskBuilder.name("Ended yesterday")
+            .event(midnight.minusHours(4), midnight.minusHours(2)).build()));
+    }
+
     //@@author
     @Test
     public void toAmericanDateFormat_matches() {
@@ -51,6 +51,19 @@ public class DateRangeArgumentTest {
         assertFalse(arg.getValue().isRange());
     }
     
+    @Test
+    public void testTimeGiven() throws Exception {
+        arg.setValue("6/12/16");
+        assertFalse(arg.getValue().isEndTimeGiven());
+
+        arg.setValue("6/12/16 12:45pm");
+        assertTrue(arg.getValue().isEndTimeGiven());
+
+        arg.setValue("6/12/16 to 7/12/16");
+        assertFalse(arg.getValue().isStartTimeGiven());
+        assertFalse(arg.getValue().isEndTimeGiven());
+    }
+
     @Test
     public void testNaturalLanguageDateTime() throws Exception {
         arg.setValue("12 Oct 2014 6pm");
@@ -2,13 +2,21 @@ package seedu.todo.logic.commands;
 
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import org.junit.Before;
 import org.junit.Test;
+import org.ocpsoft.prettytime.shade.com.joestelmach.natty.CalendarSource;
 
 import seedu.todo.model.property.TaskViewFilter;
 import seedu.todo.commons.exceptions.ValidationException;
+import seedu.todo.testutil.TimeUtil;
+import seedu.todo.model.tag.Tag;
 import seedu.todo.testutil.TaskBuilder;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
 import static org.junit.Assert.*;
 
 //@@author A0092382A
@@ -98,6 +106,36 @@ public class FindCommandTest extends CommandTest {
         assertVisibleTaskCount(0);
     }
 
+    @Test
+    public void testFindTagCaseInsensitive() throws ValidationException {
+        setParameter("t", "BETA");
+        execute(true);
+        assertVisibleTaskCount(2);
+    }
+
+    @Test
+    public void testFindTagAddedLater() throws Exception {
+        setParameter("t", "Gamma");
+        execute(true);
+        assertVisibleTaskCount(1);
+
+        // Tasks given or stripped of the tag after the search are shown correctly
+        todolist.update(3, task -> task.setTags(ImmutableSet.of(new Tag("gamma"))));
+        assertVisibleTaskCount(2);
+        todolist.update(2, task -> task.setTags(ImmutableSet.of()));
+        assertVisibleTaskCount(1);
+    }
+
+    @Test
+    public void testFindMissingTag() throws Exception {
+        setParameter("t", "Delta");
+        execute(true);
+        assertVisibleTaskCount(0);
+
+        // Searching for a tag does not add it to the tags of the todo list
+        assertEquals(-1, todolist.getColumns().getTagId("Delta"));
+    }
+
     @Test
     public void testKeywordAndTag() throws ValidationException {
         setParameter("t", "Gamma");
@@ -106,6 +144,71 @@ public class FindCommandTest extends CommandTest {
         assertVisibleTaskCount(3);
     }
 
+    @Test
+    public void testFindBetween() throws Exception {
+        LocalDateTime tomorrow = TimeUtil.tomorrow();
+        todolist.add("Deadline", task -> task.setEndTime(tomorrow.plusHours(12)));
+        todolist.add("CS2101 event", task -> {
+            task.setStartTime(tomorrow.minusHours(2));
+            task.setEndTime(tomorrow.plusHours(2));
+        });
+        todolist.add("Later", task -> task.setEndTime(tomorrow.plusDays(3)));
+
+        setParameter("from", "tomorrow 9am");
+        setParameter("to", "tomorrow 8pm");
+        execute(true);
+        assertVisibleTaskCount(1);
+        
+        // Events that started before the range are found too
+        setParameter("from", "tomorrow 1am");
+        setParameter("to", "tomorrow 8pm");
+        execute(true);
+        assertVisibleTaskCount(2);
+    }
+
+    @Test
+    public void testFindBetweenOpenRange() throws Exception {
+        LocalDateTime tomorrow = TimeUtil.tomorrow();
+        todolist.add("Deadline", task -> task.setEndTime(tomorrow.plusHours(12)));
+        todolist.add("Later", task -> task.setEndTime(tomorrow.plusDays(3)));
+        
+        setParameter("from", "tomorrow 1pm");
+        execute(true);
+        assertVisibleTaskCount(1);
+    }
+
+    @Test
+    public void testFindBetweenDates() throws Exception {
+        LocalDateTime thursday = LocalDateTime.of(2016, 11, 3, 0, 0);
+        todolist.add("Thursday morning", task -> task.setEndTime(thursday.plusHours(8)));
+        todolist.add("Friday night", task -> task.setEndTime(thursday.plusDays(1).plusHours(23).plusMinutes(45)));
+        todolist.add("Saturday", task -> task.setEndTime(thursday.plusDays(2).plusHours(1)));
+
+        // Dates without a time cover the whole day, even when searching late in the day
+        CalendarSource.setBaseDate(Date.from(thursday.minusMinutes(30).atZone(ZoneId.systemDefault()).toInstant()));
+        try {
+            setParameter("from", "3/11/2016");
+            setParameter("to", "4/11/2016");
+            execute(true);
+        } finally {
+            CalendarSource.setBaseDate(null);
+        }
+        assertVisibleTaskCount(2);
+    }
+
+    @Test
+    public void testKeywordBetween() throws Exception {
+        LocalDateTime tomorrow = TimeUtil.tomorrow();
+        todolist.add("CS2101 deadline", task -> task.setEndTime(tomorrow.plusHours(12)));
+        todolist.add("Other deadline", task -> task.setEndTime(tomorrow.plusHours(12)));
+        
+        setParameter("CS2101");
+        setParameter("from", "tomorrow 9am");
+        setParameter("to", "tomorrow 8pm");
+        execute(true);
+        assertVisibleTaskCount(1);
+    }
+
     @Test
     public void testDismissFind() throws ValidationException {
         setParameter("project");
@@ -0,0 +1,51 @@
+package seedu.todo.model;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.todo.model.task.ImmutableTask;
+import seedu.todo.testutil.TaskBuilder;
+
+//@@author A0135817B
+public class ProgressiveLoadTest {
+    private List<ImmutableTask> loaded = new ArrayList<>();
+
+    private void load(ProgressiveLoad load, int batchSize) {
+        load.loadNextBatch(batchSize, (position, tasks) -> loaded.addAll(position, tasks));
+    }
+
+    @Test
+    public void testEmptyList() {
+        ProgressiveLoad load = new ProgressiveLoad(new ArrayList<>());
+        assertTrue(load.getFirstBatch().isEmpty());
+        assertTrue(load.isDone());
+        assertEquals(1, load.getProgress(), 0);
+    }
+
+    @Test
+    public void testBatchesKeepStorageOrder() {
+        // Most recently updated tasks are created last, so give the first screen tasks spread
+        // throughout the list by pinning every seventh task
+        List<ImmutableTask> tasks = new ArrayList<>();
+        for (int i = 0; i < ProgressiveLoad.FIRST_SCREEN_SIZE * 4; i++) {
+            TaskBuilder builder = TaskBuilder.name("Task " + i);
+            tasks.add(i % 7 == 0 ? builder.pinned().build() : builder.build());
+        }
+
+        ProgressiveLoad load = new ProgressiveLoad(tasks);
+        loaded.addAll(load.getFirstBatch());
+        assertFalse(load.isDone());
+
+        while (!load.isDone()) {
+            double progress = load.getProgress();
+            load(load, 13);
+            assertTrue(load.getProgress() > progress);
+        }
+
+        assertEquals(tasks, loaded);
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.todo.model;
+
+import com.google.common.collect.ImmutableList;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+//@@author A0135817B
+public class SwitchedListTest {
+    private ObservableList<Integer> first;
+    private ObservableList<Integer> second;
+    private SwitchedList<Integer> list;
+    private List<Integer> mirror;
+
+    @Before
+    public void setUp() {
+        first = FXCollections.observableArrayList(1, 2, 3);
+        second = FXCollections.observableArrayList(4, 5);
+        list = new SwitchedList<>();
+        mirror = new ArrayList<>();
+
+        // Replays every change on a copy of the list, which should end up the same as the list
+        list.addListener((ListChangeListener<Integer>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    List<Integer> permuted = new ArrayList<>(mirror);
+                    for (int i = change.getFrom(); i < change.getTo(); i++) {
+                        permuted.set(change.getPermutation(i), mirror.get(i));
+                    }
+                    mirror.clear();
+                    mirror.addAll(permuted);
+                } else if (!change.wasUpdated()) {
+                    mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                    mirror.addAll(change.getFrom(), change.getAddedSubList());
+                }
+            }
+        });
+    }
+
+    @Test
+    public void testEmpty() {
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void testSwitch() {
+        list.setSource(first);
+        assertEquals(first, list);
+        assertEquals(first, mirror);
+
+        list.setSource(second);
+        assertEquals(second, list);
+        assertEquals(second, mirror);
+        assertSame(second, list.getSource());
+    }
+
+    @Test
+    public void testChangesArePassedOn() {
+        list.setSource(first);
+        first.add(0, 10);
+        first.remove(Integer.valueOf(2));
+        first.set(1, 20);
+        FXCollections.sort(first);
+        assertEquals(ImmutableList.of(3, 10, 20), list);
+        assertEquals(first, mirror);
+    }
+
+    @Test
+    public void testOldSourceIsIgnored() {
+        list.setSource(first);
+        list.setSource(second);
+        first.add(6);
+        second.add(7);
+        assertEquals(ImmutableList.of(4, 5, 7), list);
+        assertEquals(second, mirror);
+    }
+}
@@ -0,0 +1,160 @@
+package seedu.todo.model;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Before;
+import org.junit.Test;
+import seedu.todo.model.tag.Tag;
+import seedu.todo.model.task.Task;
+
+import java.time.LocalDateTime;
+import java.util.BitSet;
+
+import static org.junit.Assert.*;
+
+//@@author A0135817B
+public class TaskColumnsTest {
+    private static final LocalDateTime TIME = LocalDateTime.of(2016, 11, 1, 12, 0);
+
+    private TaskList tasks;
+    private TaskColumns columns;
+
+    @Before
+    public void setUp() {
+        tasks = new TaskList();
+        columns = tasks.getColumns();
+    }
+
+    private void assertRowMatches(Task task) {
+        int row = columns.rowOf(task);
+        assertEquals(tasks.indexOf(task.getUUID()), row);
+        assertEquals(TaskColumns.toColumnTime(task.getStartTime().orElse(null)), columns.getStartTime(row));
+        assertEquals(TaskColumns.toColumnTime(task.getEndTime().orElse(null)), columns.getEndTime(row));
+        assertEquals(TaskColumns.toColumnTime(task.getCreatedAt()), columns.getCreatedAt(row));
+        assertEquals(task.isCompleted(), columns.isCompleted(row));
+        assertEquals(task.isPinned(), columns.isPinned(row));
+        assertEquals(task.isEvent(), columns.isEvent(row));
+        assertEquals(task.getTags().size(), columns.getTagIds(row).length);
+        for (Tag tag : task.getTags()) {
+            assertTrue(columns.hasTag(row, columns.getTagId(tag.getTagName())));
+        }
+    }
+
+    private void assertColumnsMatch() {
+        assertEquals(tasks.size(), columns.size());
+        tasks.forEach(this::assertRowMatches);
+    }
+
+    @Test
+    public void testColumnTime() {
+        assertEquals(TaskColumns.NO_TIME, TaskColumns.toColumnTime(null));
+        assertTrue(TaskColumns.toColumnTime(TIME) < TaskColumns.toColumnTime(TIME.plusNanos(1)));
+        assertTrue(TaskColumns.toColumnTime(TIME.minusYears(100)) < TaskColumns.toColumnTime(TIME));
+        assertTrue(TaskColumns.toColumnTime(LocalDateTime.MAX) < TaskColumns.NO_TIME);
+        assertTrue(TaskColumns.toColumnTime(LocalDateTime.MIN) <= TaskColumns.toColumnTime(TIME));
+    }
+
+    @Test
+    public void testAdd() {
+        Task event = new Task("Event");
+        event.setStartTime(TIME);
+        event.setEndTime(TIME.plusHours(2));
+        Task deadline = new Task("Deadline");
+        deadline.setEndTime(TIME);
+        deadline.setPinned(true);
+        Task done = new Task("Done");
+        done.setCompleted(true);
+
+        tasks.add(event);
+        tasks.add(0, deadline);
+        tasks.add(1, done);
+
+        assertColumnsMatch();
+        assertEquals(1, columns.rowOf(done));
+        assertFalse(columns.isEvent(columns.rowOf(deadline)));
+        assertTrue(columns.isEvent(columns.rowOf(event)));
+        assertEquals(-1, columns.rowOf(new Task("Not in list")));
+    }
+
+    @Test
+    public void testManyTasks() {
+        for (int i = 0; i < 100; i++) {
+            Task task = new Task("Task " + i);
+            task.setEndTime(TIME.plusDays(i));
+            tasks.add(i / 2, task);
+        }
+
+        assertColumnsMatch();
+    }
+
+    @Test
+    public void testUpdate() {
+        Task task = new Task("Task");
+        tasks.add(new Task("Other"));
+        tasks.add(task);
+
+        task.edit(t -> {
+            t.setCompleted(true);
+            t.setEndTime(TIME);
+        });
+        assertColumnsMatch();
+
+        task.setPinned(true);
+        task.setCompleted(false);
+        assertColumnsMatch();
+    }
+
+    @Test
+    public void testSet() {
+        tasks.add(new Task("Task 1"));
+        Task replacement = new Task("Task 2");
+        replacement.setEndTime(TIME);
+
+        tasks.set(0, replacement);
+        assertColumnsMatch();
+    }
+
+    @Test
+    public void testRemove() {
+        Task[] added = new Task[5];
+        for (int i = 0; i < added.length; i++) {
+            added[i] = new Task("Task " + i);
+            added[i].setEndTime(TIME.plusHours(i));
+            tasks.add(added[i]);
+        }
+
+        tasks.remove(added[1]);
+        assertColumnsMatch();
+
+        BitSet removed = new BitSet();
+        removed.set(0);
+        removed.set(2);
+        tasks.removeAll(removed);
+
+        assertColumnsMatch();
+        assertEquals(2, columns.size());
+        assertEquals(TaskColumns.toColumnTime(TIME.plusHours(2)), columns.getEndTime(0));
+        assertEquals(TaskColumns.toColumnTime(TIME.plusHours(4)), columns.getEndTime(1));
+    }
+
+    @Test
+    public void testTags() {
+        Task task1 = new Task("Task 1");
+        task1.setTags(ImmutableSet.of(new Tag("CS2103"), new Tag("work")));
+        Task task2 = new Task("Task 2");
+        task2.setTags(ImmutableSet.of(new Tag("Work")));
+        tasks.add(task1);
+        tasks.add(task2);
+
+        assertColumnsMatch();
+        int work = columns.getTagId("WORK");
+        assertTrue(columns.hasTag(0, work));
+        assertTrue(columns.hasTag(1, work));
+        assertFalse(columns.hasTag(1, columns.getTagId("cs2103")));
+        assertEquals(-1, columns.getTagId("Missing"));
+        assertFalse(columns.hasTag(0, -1));
+
+        task1.setTags(ImmutableSet.of());
+        assertColumnsMatch();
+        assertFalse(columns.hasTag(0, work));
+    }
+}
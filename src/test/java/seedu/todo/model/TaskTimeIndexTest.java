@@ -0,0 +1,128 @@
+package seedu.todo.model;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Before;
+import org.junit.Test;
+import seedu.todo.model.task.ImmutableTask;
+import seedu.todo.model.task.Task;
+import seedu.todo.testutil.TaskBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+//@@author A0135817B
+public class TaskTimeIndexTest {
+    private static final LocalDateTime MIDNIGHT = LocalDateTime.of(2016, 11, 2, 0, 0);
+
+    private TaskList tasks;
+    private TaskTimeIndex index;
+
+    private Task event;
+    private Task overnightEvent;
+    private Task deadline;
+    private Task floating;
+
+    @Before
+    public void setUp() {
+        tasks = new TaskList();
+        index = tasks.getTimeIndex();
+
+        event = TaskBuilder.name("Event").event(MIDNIGHT.plusHours(10), MIDNIGHT.plusHours(12)).build();
+        overnightEvent = TaskBuilder.name("Overnight").event(MIDNIGHT.minusHours(2), MIDNIGHT.plusHours(2)).build();
+        deadline = TaskBuilder.name("Deadline").due(MIDNIGHT.plusHours(23)).build();
+        floating = TaskBuilder.name("Floating").build();
+        tasks.addAll(event, overnightEvent, deadline, floating);
+    }
+
+    private Set<ImmutableTask> between(LocalDateTime from, LocalDateTime to) {
+        return new HashSet<>(index.getTasksBetween(from, to));
+    }
+
+    private Set<ImmutableTask> in(TaskTimeIndex.Range range) {
+        return tasks.stream().filter(range).collect(Collectors.toSet());
+    }
+
+    @Test
+    public void testFindBetween() {
+        assertEquals(ImmutableList.of(event), index.getTasksBetween(MIDNIGHT.plusHours(11), MIDNIGHT.plusHours(11)));
+        assertEquals(ImmutableList.of(deadline), index.getTasksBetween(MIDNIGHT.plusHours(20), null));
+        assertEquals(ImmutableList.of(overnightEvent), index.getTasksBetween(null, MIDNIGHT.minusHours(1)));
+        assertEquals(new HashSet<>(ImmutableList.of(event, overnightEvent, deadline)), between(null, null));
+        assertEquals(new HashSet<>(ImmutableList.of(event, deadline)),
+            between(MIDNIGHT.plusHours(12), MIDNIGHT.plusHours(23)));
+        assertTrue(between(MIDNIGHT.plusHours(13), MIDNIGHT.plusHours(22)).isEmpty());
+    }
+
+    @Test
+    public void testSpanningMidnight() {
+        LocalDateTime yesterday = MIDNIGHT.minusDays(1);
+        LocalDateTime endOfToday = MIDNIGHT.plusDays(1).minusNanos(1);
+
+        assertEquals(ImmutableList.of(overnightEvent), index.getTasksBetween(yesterday, MIDNIGHT.minusNanos(1)));
+        assertEquals(new HashSet<>(ImmutableList.of(event, overnightEvent, deadline)), between(MIDNIGHT, endOfToday));
+    }
+
+    @Test
+    public void testWatch() {
+        TaskTimeIndex.Range morning = index.watch(MIDNIGHT, MIDNIGHT.plusHours(11), false);
+        TaskTimeIndex.Range events = index.watchEvents();
+        assertEquals(new HashSet<>(ImmutableList.of(event, overnightEvent)), in(morning));
+        assertEquals(new HashSet<>(ImmutableList.of(event, overnightEvent)), in(events));
+
+        // Changed tasks move in and out of the range
+        event.setStartTime(MIDNIGHT.plusHours(11).plusMinutes(1));
+        floating.setEndTime(MIDNIGHT.plusHours(1));
+        assertEquals(new HashSet<>(ImmutableList.of(overnightEvent, floating)), in(morning));
+        assertEquals(new HashSet<>(ImmutableList.of(event, overnightEvent)), in(events));
+
+        // Added and removed tasks too
+        Task added = TaskBuilder.name("Added").event(MIDNIGHT.minusDays(1), MIDNIGHT.plusDays(1)).build();
+        tasks.add(0, added);
+        tasks.remove(overnightEvent);
+        assertEquals(new HashSet<>(ImmutableList.of(added, floating)), in(morning));
+        assertEquals(new HashSet<>(ImmutableList.of(event, added)), in(events));
+
+        // The range stops changing once it is no longer watched
+        index.unwatch(morning);
+        tasks.remove(added);
+        assertEquals(2, morning.size());
+    }
+
+    @Test
+    public void testManyTasks() {
+        Random random = new Random(2103);
+        List<Task> added = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            LocalDateTime start = MIDNIGHT.plusHours(random.nextInt(24 * 30));
+            TaskBuilder builder = TaskBuilder.name("Task " + i);
+            if (random.nextBoolean()) {
+                builder.event(start, start.plusHours(random.nextInt(48)));
+            } else {
+                builder.due(start);
+            }
+            Task task = builder.build();
+            added.add(task);
+            tasks.add(task);
+        }
+        tasks.removeAll(added.subList(0, 100));
+        added.subList(100, 200).forEach(task -> task.setEndTime(task.getEndTime().get().plusDays(1)));
+
+        for (int i = 0; i < 50; i++) {
+            LocalDateTime from = MIDNIGHT.plusHours(random.nextInt(24 * 31));
+            LocalDateTime to = from.plusHours(random.nextInt(72));
+            Set<ImmutableTask> expected = tasks.stream()
+                .filter(task -> task.getEndTime().isPresent())
+                .filter(task -> !task.getEndTime().get().isBefore(from))
+                .filter(task -> !task.getStartTime().orElse(task.getEndTime().get()).isAfter(to))
+                .collect(Collectors.toSet());
+            assertEquals(expected, between(from, to));
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package seedu.todo.model;
 
 import com.google.common.collect.ImmutableList;
+import javafx.beans.value.ObservableIntegerValue;
+import javafx.collections.ListChangeListener;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
@@ -13,12 +16,24 @@ import seedu.todo.commons.core.UnmodifiableObservableList;
 import seedu.todo.commons.exceptions.ValidationException;
 import seedu.todo.model.task.ImmutableTask;
 import seedu.todo.model.task.Task;
+import seedu.todo.storage.ArchiveStorage;
 import seedu.todo.storage.MovableStorage;
+import seedu.todo.storage.UndoLogStorage;
+import seedu.todo.testutil.TaskBuilder;
 import seedu.todo.testutil.TaskFactory;
 import seedu.todo.testutil.TimeUtil;
 
+import java.io.File;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.stream.Collectors;
 
+import static org.hamcrest.Matchers.empty;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
@@ -29,6 +44,9 @@ public class TodoModelTest {
 
     @Rule
     public final ExpectedException exception = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
     
     @Mock private MovableStorage<ImmutableTodoList> storage;
     @Mock private ImmutableTodoList storageData;
@@ -135,6 +153,32 @@ public class TodoModelTest {
     }
     
   //@@author  A0135817B
+    @Test
+    public void testFilteredSortedUpdate() throws Exception {
+        model.add("First NUS");
+        model.add("Second NUS", t -> t.setCompleted(true));
+        model.add("Third NUS");
+        model.add("Fourth NTU");
+        model.find(t -> t.getTitle().equals("Third NUS"));
+        model.update(1, t -> t.setPinned(true));
+        model.view(TaskViewFilter.INCOMPLETE);
+        model.find(t -> t.getTitle().contains("NUS"));
+
+        // Third NUS is pinned so it is displayed first
+        model.update(2, t -> t.setDescription("Updated"));
+        model.update(1, t -> t.setTitle("Updated"));
+
+        assertEquals("Updated", getTask(2).getTitle());
+        assertEquals("Updated", getTask(0).getDescription().get());
+        assertEquals("Second NUS", getTask(1).getTitle());
+    }
+
+    @Test(expected = ValidationException.class)
+    public void testZeroIndex() throws Exception {
+        model.add("Foo Bar Test");
+        model.update(0, t -> t.setTitle("Test 2"));
+    }
+
     @Test
     public void testSorting() throws Exception {
         model.add("Task 3", p -> p.setEndTime(TimeUtil.now));
@@ -182,6 +226,115 @@ public class TodoModelTest {
         assertEquals(2, observableList.size());
     }
 
+    @Test
+    public void testTodayView() throws Exception {
+        LocalDateTime today = TimeUtil.today();
+        model.add("Overnight", task -> {
+            task.setStartTime(today.minusHours(2));
+            task.setEndTime(today.plusHours(2));
+        });
+        model.add("Tomorrow", task -> task.setEndTime(today.plusDays(1).plusHours(12)));
+        model.add("Floating");
+
+        model.view(TaskViewFilter.TODAY);
+        assertEquals(1, observableList.size());
+        assertEquals("Overnight", observableList.get(0).getTitle());
+
+        // Tasks moved out of today are hidden without switching views
+        model.view(TaskViewFilter.DEFAULT);
+        model.update(1, task -> task.setEndTime(today.plusHours(12)));
+        model.view(TaskViewFilter.TODAY);
+        assertEquals(2, observableList.size());
+
+        ImmutableTask overnight = todolist.getTasks().get(0);
+        model.update(observableList.indexOf(overnight) + 1, task -> {
+            task.setStartTime(today.plusDays(2));
+            task.setEndTime(today.plusDays(3));
+        });
+        assertEquals(1, observableList.size());
+        assertEquals("Floating", observableList.get(0).getTitle());
+    }
+
+    @Test
+    public void testViewsAreKeptUpToDate() throws Exception {
+        model.add("Task 1");
+        model.add("Task 2", task -> task.setEndTime(TimeUtil.tomorrow()));
+        model.add("Task 3", task -> task.setEndTime(TimeUtil.tomorrow().plusHours(1)));
+        ObservableIntegerValue incompleteCount = model.getTaskCount(TaskViewFilter.INCOMPLETE);
+        ObservableIntegerValue completedCount = model.getTaskCount(TaskViewFilter.COMPLETED);
+        assertEquals(3, incompleteCount.get());
+        assertEquals(0, completedCount.get());
+
+        // Changes made while another view is shown are reflected when switching back
+        model.view(TaskViewFilter.COMPLETED);
+        model.view(TaskViewFilter.INCOMPLETE);
+        model.update(3, task -> task.setCompleted(true));
+        model.view(TaskViewFilter.DEFAULT);
+        model.add("Task 4", task -> task.setEndTime(TimeUtil.tomorrow().minusHours(1)));
+        assertEquals(3, incompleteCount.get());
+        assertEquals(1, completedCount.get());
+
+        model.view(TaskViewFilter.INCOMPLETE);
+        assertEquals(ImmutableList.of("Task 4", "Task 2", "Task 3"),
+            observableList.stream().map(ImmutableTask::getTitle).collect(Collectors.toList()));
+        model.view(TaskViewFilter.COMPLETED);
+        assertEquals(1, observableList.size());
+        assertEquals("Task 1", observableList.get(0).getTitle());
+
+        // Displayed indexes refer to the view shown
+        model.update(1, task -> task.setCompleted(false));
+        assertEquals(0, observableList.size());
+        assertEquals(4, incompleteCount.get());
+    }
+
+    @Test
+    public void testOtherViewsStopFollowingTasks() throws Exception {
+        model.add("Task 1");
+        int[] tested = new int[1];
+        TaskViewFilter custom = new TaskViewFilter("custom", task -> {
+            tested[0]++;
+            return true;
+        }, null);
+
+        model.view(custom);
+        assertEquals(1, observableList.size());
+        model.add("Task 2");
+        assertEquals(2, observableList.size());
+
+        // Once another view is shown the custom view no longer tests changed tasks
+        model.view(TaskViewFilter.DEFAULT);
+        tested[0] = 0;
+        model.add("Task 3");
+        model.update(1, task -> task.setTitle("Changed"));
+        assertEquals(0, tested[0]);
+
+        // Counting the tasks in the view only tests them when the count is read
+        ObservableIntegerValue count = model.getTaskCount(custom);
+        assertEquals(3, count.get());
+        tested[0] = 0;
+        model.add("Task 4");
+        model.add("Task 5");
+        assertEquals(0, tested[0]);
+        assertEquals(5, count.get());
+    }
+
+    @Test
+    public void testFindAcrossViews() throws Exception {
+        model.add("Foo");
+        model.add("Bar", task -> task.setCompleted(true));
+        model.add("Foo Bar", task -> task.setCompleted(true));
+
+        model.find(task -> task.getTitle().contains("Foo"));
+        model.view(TaskViewFilter.COMPLETED);
+        assertEquals(1, observableList.size());
+        model.view(TaskViewFilter.INCOMPLETE);
+        assertEquals(1, observableList.size());
+
+        model.delete(1);
+        assertEquals(2, todolist.getTasks().size());
+        assertEquals(0, observableList.size());
+    }
+
     @Test
     public void testSave() throws Exception {
         model.save("new location");
@@ -202,6 +355,84 @@ public class TodoModelTest {
         assertEquals("Hello world", getTask(0).getTitle());
     }
     
+    @Test
+    @SuppressWarnings("unchecked") // reset takes the mocks as generic varargs
+    public void testBatch() throws Exception {
+        model.add("Task 1");
+        model.add("Task 2");
+        model.add("Task 3");
+        ImmutableTask first = observableList.get(0);
+        ImmutableTask second = observableList.get(1);
+        reset(storage);
+
+        List<ListChangeListener.Change<? extends ImmutableTask>> changes = new ArrayList<>();
+        observableList.addListener((ListChangeListener<ImmutableTask>) changes::add);
+        model.batch(m -> {
+            m.delete(1);
+            // Index 2 is still the second task displayed before the batch
+            m.update(2, t -> t.setTitle("Updated"));
+        });
+
+        assertEquals(1, changes.size());
+        verify(storage, times(1)).save(todolist);
+        assertEquals(2, todolist.getTasks().size());
+        assertFalse(todolist.getTasks().contains(first));
+        assertEquals("Updated", getTask(second).getTitle());
+
+        // The batch is undone in one step
+        model.undo();
+        assertEquals(3, todolist.getTasks().size());
+        assertTrue(todolist.getTasks().contains(first));
+        assertNotEquals("Updated", getTask(second).getTitle());
+    }
+
+    @Test
+    public void testFailedBatchIsReverted() throws Exception {
+        model.add("Task 1");
+        model.add("Task 2");
+
+        try {
+            model.batch(m -> {
+                m.update(1, t -> t.setTitle("Updated"));
+                m.delete(2);
+                m.delete(3);
+            });
+            fail();
+        } catch (ValidationException e) {
+            // Expected
+        }
+
+        assertEquals(2, todolist.getTasks().size());
+        assertEquals("Task 1", getTask(0).getTitle());
+        assertEquals("Task 2", getTask(1).getTitle());
+
+        // The failed batch is not an undo step
+        model.undo();
+        assertEquals(1, todolist.getTasks().size());
+    }
+
+    @Test
+    public void testBatchRevertedOnError() throws Exception {
+        model.add("Task 1");
+
+        try {
+            model.batch(m -> {
+                m.update(1, t -> t.setTitle("Updated"));
+                throw new AssertionError("Error in batch");
+            });
+            fail();
+        } catch (AssertionError e) {
+            assertEquals("Error in batch", e.getMessage());
+        }
+        assertEquals("Task 1", getTask(0).getTitle());
+
+        // The model is no longer in the batch, so changes are made and undone on their own
+        model.add("Task 2");
+        model.undo();
+        assertEquals(1, todolist.getTasks().size());
+        assertEquals("Task 1", getTask(0).getTitle());
+    }
+
     @Test
     public void testUndo() throws Exception {
         model.add("Test task 1");
@@ -223,6 +454,59 @@ public class TodoModelTest {
         assertEquals(1, todolist.getTasks().size());
     }
     
+    @Test
+    public void testUndoEditsToDifferentTasks() throws Exception {
+        ImmutableTask first = model.add("Test task 1");
+        ImmutableTask second = model.add("Test task 2");
+        model.update(observableList.indexOf(first) + 1, t -> t.setTitle("Edited 1"));
+        model.update(observableList.indexOf(second) + 1, t -> t.setPinned(true));
+        model.update(observableList.indexOf(first) + 1, t -> t.setTitle("Edited again"));
+
+        // Each undo state shares the copies of the tasks that did not change,
+        // so undoing one edit must not bring back or lose any other edit
+        model.undo();
+        assertEquals("Edited 1", getTask(first).getTitle());
+        assertTrue(getTask(second).isPinned());
+
+        model.undo();
+        assertEquals("Edited 1", getTask(first).getTitle());
+        assertFalse(getTask(second).isPinned());
+
+        model.undo();
+        assertEquals("Test task 1", getTask(first).getTitle());
+        assertEquals("Test task 2", getTask(second).getTitle());
+
+        model.redo();
+        model.redo();
+        assertEquals("Edited 1", getTask(first).getTitle());
+        assertTrue(getTask(second).isPinned());
+    }
+
+    @Test
+    public void testUndoAfterRestart() throws Exception {
+        UndoLogStorage undoLog = new UndoLogStorage(
+            new File(testFolder.getRoot(), "todo.xml").getPath(), Runnable::run);
+        model = new TodoModel.Builder(todolist, storage).undoLog(undoLog).build();
+        ImmutableTask task = model.add("Test task 1");
+        model.update(1, t -> t.setTitle("Edited"));
+
+        // Restart with the tasks as they were saved
+        List<ImmutableTask> saved = ImmutableList.copyOf(todolist.getTasks());
+        when(storageData.getTasks()).thenReturn(saved);
+        todolist = new TodoList(storage);
+        model = new TodoModel.Builder(todolist, storage)
+            .undoLog(new UndoLogStorage(undoLog.getLocation().replace(".undo", ""), Runnable::run))
+            .build();
+
+        model.undo();
+        assertEquals("Test task 1", getTask(task).getTitle());
+        model.undo();
+        assertThat(todolist.getTasks(), empty());
+
+        model.redo();
+        assertEquals("Test task 1", getTask(task).getTitle());
+    }
+
     @Test
     public void testPersistAfterUndo() throws Exception {
         model.add("Test task 1");
@@ -232,23 +516,95 @@ public class TodoModelTest {
     
     @Test
     public void testUndoStackSize() throws Exception {
-        final int STACK_SIZE = 10;
+        final int STACK_SIZE = 100;
         
-        // Add 11 items (which will add 11 to the undo stack) 
-        for (int i = 0; i < STACK_SIZE + 1; i++) {
+        // Small changes take little memory, so the default budget keeps many more steps
+        for (int i = 0; i < STACK_SIZE; i++) {
             model.add(TaskFactory.taskTitle());
         }
         
-        // Undo until the undo stack is empty 
         for (int i = 0; i < STACK_SIZE; i++) {
             model.undo();
         }
+        assertThat(todolist.getTasks(), empty());
         
-        // Make sure the last undo throws an exception, even though 11 add 
-        // events were recorded 
         exception.expect(ValidationException.class);
         model.undo();
     }
+
+    @Test
+    public void testUndoMemoryBudget() throws Exception {
+        model = new TodoModel.Builder(todolist, storage).undoMemoryBudgetKb(0).build();
+        model.add("Test task 1");
+        model.add("Test task 2");
+
+        // Only the most recent step is kept once the history is over its budget
+        model.undo();
+        assertEquals(1, todolist.getTasks().size());
+        exception.expect(ValidationException.class);
+        model.undo();
+    }
+
+    @Test
+    public void testUndoDeleteAllRestoresOrder() throws Exception {
+        for (int i = 0; i < 6; i++) {
+            model.add("Test task " + i);
+        }
+        for (int i = 1; i < 6; i += 2) {
+            ImmutableTask task = getTask(i);
+            model.update(observableList.indexOf(task) + 1, t -> t.setCompleted(true));
+        }
+        List<ImmutableTask> before = ImmutableList.copyOf(todolist.getTasks());
+
+        model.deleteAll();
+        assertEquals(3, todolist.getTasks().size());
+
+        model.undo();
+        assertEquals(before, todolist.getTasks());
+        assertTrue(getTask(5).isCompleted());
+
+        model.redo();
+        assertEquals(3, todolist.getTasks().size());
+    }
+
+    @Test
+    public void testUndoDeleteNonAdjacentRestoresOrder() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            model.add("Test task " + i);
+        }
+        // Completes single tasks and runs of tasks, including the first and last task
+        for (int i : new int[] { 0, 3, 4, 5, 9, 12, 13, 19 }) {
+            ImmutableTask task = getTask(i);
+            model.update(observableList.indexOf(task) + 1, t -> t.setCompleted(true));
+        }
+        List<ImmutableTask> before = ImmutableList.copyOf(todolist.getTasks());
+
+        model.deleteAll();
+        assertEquals(12, todolist.getTasks().size());
+
+        model.undo();
+        assertEquals(before, todolist.getTasks());
+
+        model.redo();
+        model.undo();
+        assertEquals(before, todolist.getTasks());
+    }
+
+    @Test
+    public void testUndoTags() throws Exception {
+        model.add("Test task 1");
+        model.addTagsToTask(1, "tag1");
+        model.deleteTags("tag1");
+        assertThat(model.getGlobalTagsList(), empty());
+
+        model.undo();
+        assertEquals(1, model.getGlobalTagsList().size());
+        assertEquals(1, getTask(0).getTags().size());
+
+        model.undo();
+        assertThat(model.getGlobalTagsList(), empty());
+        assertThat(getTask(0).getTags(), empty());
+    }
     
     @Test(expected = ValidationException.class)
     public void testOnlyUndoDataChanges() throws Exception {
@@ -331,4 +687,100 @@ public class TodoModelTest {
         return todolist.getTasks().get(index);
     }
 
+    /**
+     * Get the task in memory with the same UUID as the given task
+     */
+    private ImmutableTask getTask(ImmutableTask task) {
+        return todolist.getTasks().get(todolist.getTasks().indexOf(task));
+    }
+
+
+    @Test
+    public void testUndoAcrossArchive() throws Exception {
+        ArchiveStorage archive = new ArchiveStorage(new File(testFolder.getRoot(), "todo.xml").getPath());
+        Task oldTask = TaskBuilder.name("Old").completed().createdAt(LocalDateTime.now().minusDays(10)).build();
+        when(storageData.getTasks()).thenReturn(ImmutableList.of(oldTask));
+        model = new TodoModel.Builder(new TodoList(storage, archive), storage).archiveAfterDays(5).build();
+        observableList = model.getObservableList();
+        assertThat(observableList, empty());
+
+        // Archived tasks are paged in by the completed view
+        model.view(TaskViewFilter.COMPLETED);
+        assertEquals(ImmutableList.of(oldTask), observableList);
+
+        model.delete(1);
+        assertThat(observableList, empty());
+        assertTrue(archive.getPages().isEmpty());
+
+        // The task is restored into the todo list rather than the archive
+        model.undo();
+        assertEquals(ImmutableList.of(oldTask), observableList);
+        assertTrue(archive.getPages().isEmpty());
+    }
+
+    @Test
+    public void testArchivePagesLoadedOnRequest() throws Exception {
+        ArchiveStorage archive = new ArchiveStorage(new File(testFolder.getRoot(), "todo.xml").getPath());
+        List<ImmutableTask> oldTasks = new ArrayList<>();
+        for (int i = 0; i < ArchiveStorage.PAGE_SIZE + 10; i++) {
+            oldTasks.add(TaskBuilder.name("Old " + i).completed().createdAt(LocalDateTime.now().minusDays(10)).build());
+        }
+        when(storageData.getTasks()).thenReturn(oldTasks);
+        model = new TodoModel.Builder(new TodoList(storage, archive), storage).archiveAfterDays(5).build();
+        observableList = model.getObservableList();
+
+        // Only the most recent page is loaded, however many times the completed view is selected
+        model.view(TaskViewFilter.COMPLETED);
+        model.view(TaskViewFilter.DEFAULT);
+        model.view(TaskViewFilter.COMPLETED);
+        assertEquals(oldTasks.size() - ArchiveStorage.PAGE_SIZE, observableList.size());
+
+        assertTrue(model.loadMoreArchived());
+        assertEquals(oldTasks.size(), observableList.size());
+        assertFalse(model.loadMoreArchived());
+    }
+
+    /**
+     * Sets up the model over a todo list that has only loaded its first batch of tasks, half
+     * of which are completed
+     */
+    private List<ImmutableTask> setUpPartlyLoaded() throws Exception {
+        List<ImmutableTask> storedTasks = new ArrayList<>();
+        for (int i = 0; i < ProgressiveLoad.FIRST_SCREEN_SIZE * 4; i++) {
+            TaskBuilder builder = TaskBuilder.name("Task " + i).createdAt(LocalDateTime.now().minusHours(i));
+            storedTasks.add(i % 2 == 0 ? builder.completed().build() : builder.build());
+        }
+        when(storageData.getTasks()).thenReturn(storedTasks);
+
+        Queue<Runnable> fxQueue = new ArrayDeque<>();
+        todolist = new TodoList(storage, null, Runnable::run, fxQueue::add);
+        fxQueue.remove().run();
+        model = new TodoModel(todolist, storage);
+        observableList = model.getObservableList();
+        assertTrue(observableList.size() < storedTasks.size());
+        return storedTasks;
+    }
+
+    @Test
+    public void testDeleteAllWhileLoading() throws Exception {
+        List<ImmutableTask> storedTasks = setUpPartlyLoaded();
+
+        model.deleteAll();
+
+        List<ImmutableTask> incomplete = storedTasks.stream()
+            .filter(task -> !task.isCompleted()).collect(Collectors.toList());
+        assertEquals(new HashSet<>(incomplete), new HashSet<>(todolist.getTasks()));
+    }
+
+    @Test
+    public void testUpdateAllWhileLoading() throws Exception {
+        setUpPartlyLoaded();
+        model.view(TaskViewFilter.INCOMPLETE);
+
+        model.updateAll(task -> task.setPinned(true));
+
+        for (ImmutableTask task : todolist.getTasks()) {
+            assertNotEquals(task.isCompleted(), task.isPinned());
+        }
+    }
 }
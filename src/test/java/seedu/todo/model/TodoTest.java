@@ -1,25 +1,42 @@
 package seedu.todo.model;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
+import org.mockito.stubbing.Answer;
+import seedu.todo.commons.events.storage.DataSavingExceptionEvent;
 import seedu.todo.commons.exceptions.ValidationException;
 import seedu.todo.model.task.ImmutableTask;
 import seedu.todo.model.task.Task;
+import seedu.todo.storage.ArchiveStorage;
+import seedu.todo.storage.CorruptTasksException;
+import seedu.todo.storage.IncrementalTodoListStorage;
 import seedu.todo.storage.MovableStorage;
+import seedu.todo.testutil.EventsCollector;
 import seedu.todo.testutil.TaskBuilder;
 import seedu.todo.testutil.TaskFactory;
 
+import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Queue;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.Matchers.empty;
 import static org.junit.Assert.*;
@@ -33,6 +50,9 @@ public class TodoTest {
     @Rule
     public MockitoRule rule = MockitoJUnit.rule();
 
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
     @Mock private MovableStorage<ImmutableTodoList> storage;
     @Mock private ImmutableTodoList storageData;
     private TodoList todo;
@@ -51,6 +71,17 @@ public class TodoTest {
         assertThat(todo.getTasks(), empty());
     }
 
+    @Test
+    public void testCorruptTasksAreReported() throws Exception {
+        EventsCollector events = new EventsCollector();
+        Task task = new Task("Task");
+        when(storage.read()).thenThrow(new CorruptTasksException("Task no. 2 could not be read", ImmutableList.of(task)));
+        todo = new TodoList(storage);
+
+        assertEquals(ImmutableList.of(task), todo.getTasks());
+        assertTrue(events.last() instanceof DataSavingExceptionEvent);
+    }
+
     @Test
     public void testRestoreFromStorage() {
         // Create a mock todo list, add it to mock storage and try to get
@@ -228,7 +259,366 @@ public class TodoTest {
         });
     }
 
+    /**
+     * Records a copy of the changes passed to each save, since the todo list clears them afterwards
+     */
+    private static Answer<Void> recordChanges(List<Set<UUID>> savedChanges) {
+        return invocation -> {
+            Set<?> changedTasks = invocation.getArgumentAt(1, Set.class);
+            savedChanges.add(changedTasks.stream().map(UUID.class::cast).collect(Collectors.toSet()));
+            return null;
+        };
+    }
+
+    /**
+     * Creates a todo list backed by incremental storage, which records a copy of
+     * the changes passed to each save
+     */
+    private IncrementalTodoListStorage setUpIncrementalStorage(List<Set<UUID>> savedChanges) throws Exception {
+        IncrementalTodoListStorage incrementalStorage = mock(IncrementalTodoListStorage.class);
+        when(incrementalStorage.read()).thenReturn(storageData);
+        doAnswer(recordChanges(savedChanges)).when(incrementalStorage).saveChanges(any(), any());
+
+        todo = new TodoList(incrementalStorage);
+        return incrementalStorage;
+    }
+
+    @Test
+    public void testIncrementalSaveOnlyHasChangedTasks() throws Exception {
+        List<Set<UUID>> savedChanges = new ArrayList<>();
+        when(storageData.getTasks()).thenReturn(ImmutableList.of(new Task("Task 1"), new Task("Task 2")));
+        setUpIncrementalStorage(savedChanges);
+
+        todo.update(1, t -> t.setPinned(true));
+        ImmutableTask added = todo.add("Task 3");
+        ImmutableTask deleted = todo.delete(0);
+
+        assertEquals(ImmutableList.of(
+            ImmutableSet.of(getTask(0).getUUID()),
+            ImmutableSet.of(added.getUUID()),
+            ImmutableSet.of(deleted.getUUID())
+        ), savedChanges);
+    }
+
+    @Test
+    public void testIncrementalSaveKeepsChangesAfterFailure() throws Exception {
+        List<Set<UUID>> savedChanges = new ArrayList<>();
+        when(storageData.getTasks()).thenReturn(ImmutableList.of());
+        IncrementalTodoListStorage incrementalStorage = setUpIncrementalStorage(savedChanges);
+
+        doThrow(new IOException()).when(incrementalStorage).saveChanges(any(), any());
+        ImmutableTask first = todo.add("Task 1");
+
+        doAnswer(recordChanges(savedChanges)).when(incrementalStorage).saveChanges(any(), any());
+        ImmutableTask second = todo.add("Task 2");
+
+        assertEquals(ImmutableList.of(ImmutableSet.of(first.getUUID(), second.getUUID())), savedChanges);
+    }
+
     private ImmutableTask getTask(int index) {
         return todo.getTasks().get(index);
     }
+
+    /**
+     * Creates a todo list with an archive containing one old completed task, and returns that task
+     */
+    private ImmutableTask setUpArchive(ArchiveStorage archive, Task... otherTasks) {
+        Task oldTask = TaskBuilder.name("Old").completed().createdAt(LocalDateTime.now().minusDays(10)).build();
+        List<ImmutableTask> tasks = new ArrayList<>(ImmutableList.copyOf(otherTasks));
+        tasks.add(oldTask);
+        when(storageData.getTasks()).thenReturn(tasks);
+
+        todo = new TodoList(storage, archive);
+        assertEquals(ImmutableList.of(oldTask), todo.archiveCompletedTasks(LocalDateTime.now().minusDays(5)));
+        return oldTask;
+    }
+
+    @Test
+    public void testArchiveCompletedTasks() throws Exception {
+        ArchiveStorage archive = new ArchiveStorage(new File(testFolder.getRoot(), "todo.xml").getPath());
+        Task recentTask = TaskBuilder.name("Recent").completed().build();
+        Task incompleteTask = TaskBuilder.name("Incomplete").createdAt(LocalDateTime.now().minusDays(10)).build();
+        ImmutableTask oldTask = setUpArchive(archive, recentTask, incompleteTask);
+
+        assertEquals(ImmutableList.of(recentTask, incompleteTask), todo.getTasks());
+        assertEquals(ImmutableList.of(recentTask, incompleteTask), todo.getObservableList());
+        assertEquals(ImmutableList.of(oldTask), archive.readPage(0));
+        verify(storage).save(todo);
+    }
+
+    @Test
+    public void testLoadArchivePage() throws Exception {
+        ArchiveStorage archive = new ArchiveStorage(new File(testFolder.getRoot(), "todo.xml").getPath());
+        Task task = new Task("Task");
+        ImmutableTask oldTask = setUpArchive(archive, task);
+
+        assertTrue(todo.loadArchivePage());
+        assertFalse(todo.loadArchivePage());
+
+        assertEquals(ImmutableList.of(task, oldTask), todo.getObservableList());
+        assertEquals(ImmutableList.of(task), todo.getTasks());
+    }
+
+    @Test
+    public void testUpdateRestoresFromArchive() throws Exception {
+        ArchiveStorage archive = new ArchiveStorage(new File(testFolder.getRoot(), "todo.xml").getPath());
+        ImmutableTask oldTask = setUpArchive(archive);
+        todo.loadArchivePage();
+
+        todo.update(0, t -> t.setPinned(true));
+
+        assertEquals(ImmutableList.of(oldTask), todo.getTasks());
+        assertTrue(archive.getPages().isEmpty());
+    }
+
+    @Test
+    public void testSetTasksKeepsLoadedArchive() throws Exception {
+        ArchiveStorage archive = new ArchiveStorage(new File(testFolder.getRoot(), "todo.xml").getPath());
+        ImmutableTask oldTask = setUpArchive(archive);
+        todo.loadArchivePage();
+
+        Task task = new Task("Task");
+        todo.setTasks(ImmutableList.of(task));
+
+        assertEquals(ImmutableList.of(task), todo.getTasks());
+        assertEquals(ImmutableList.of(task, oldTask), todo.getObservableList());
+    }
+
+    @Test
+    public void testLoadDropsLoadedArchive() throws Exception {
+        ArchiveStorage archive = new ArchiveStorage(new File(testFolder.getRoot(), "todo.xml").getPath());
+        setUpArchive(archive);
+        todo.loadArchivePage();
+
+        Task task = new Task("Task");
+        ImmutableTodoList otherData = mock(ImmutableTodoList.class);
+        when(otherData.getTasks()).thenReturn(ImmutableList.of(task));
+        when(storage.read("other.xml")).thenReturn(otherData);
+        todo.load("other.xml");
+
+        assertEquals(ImmutableList.of(task), todo.getTasks());
+        assertEquals(ImmutableList.of(task), todo.getObservableList());
+
+        // The pages of the replaced list are not loaded into the new one
+        assertFalse(todo.loadArchivePage());
+        assertEquals(ImmutableList.of(task), todo.getObservableList());
+        assertEquals(1, archive.getPages().size());
+    }
+
+    @Test
+    public void testSetTasksUpdatesInPlace() throws Exception {
+        todo.add("Task 1");
+        todo.add("Task 2");
+        todo.add("Task 3");
+        List<ImmutableTask> before = new ArrayList<>(todo.getObservableList());
+
+        List<ImmutableTask> newTasks = new ArrayList<>();
+        for (ImmutableTask task : before) {
+            newTasks.add(new Task(task));
+        }
+        Task changed = new Task(before.get(1));
+        changed.setTitle("Changed");
+        newTasks.set(1, changed);
+
+        List<ListChangeListener.Change<? extends ImmutableTask>> changes = new ArrayList<>();
+        todo.getObservableList().addListener((ListChangeListener<ImmutableTask>) change -> {
+            while (change.next()) {
+                assertTrue(change.wasUpdated());
+                assertEquals(1, change.getFrom());
+                assertEquals(2, change.getTo());
+            }
+            changes.add(change);
+        });
+        todo.setTasks(newTasks);
+
+        assertEquals(1, changes.size());
+        assertEquals("Changed", todo.getObservableList().get(1).getTitle());
+        for (int i = 0; i < before.size(); i++) {
+            assertSame(before.get(i), todo.getObservableList().get(i));
+        }
+    }
+
+    @Test
+    public void testSetTasksAddsAndRemoves() throws Exception {
+        ImmutableTask task1 = todo.add("Task 1");
+        ImmutableTask task2 = todo.add("Task 2");
+        ImmutableTask task3 = todo.add("Task 3");
+        Task added1 = new Task("Added 1");
+        Task added2 = new Task("Added 2");
+
+        todo.setTasks(ImmutableList.of(added1, task3, added2, task1));
+
+        assertEquals(ImmutableList.of(added1, task3, added2, task1), todo.getTasks());
+        assertFalse(todo.getTasks().contains(task2));
+        assertSame(task3, todo.getObservableList().get(1));
+    }
+
+    @Test
+    public void testIndexOf() throws Exception {
+        ImmutableTask task1 = todo.add("Task 1");
+        ImmutableTask task2 = todo.add("Task 2");
+        ImmutableTask task3 = todo.add("Task 3");
+
+        assertEquals(0, todo.indexOf(task1.getUUID()));
+        assertEquals(2, todo.indexOf(task3.getUUID()));
+        assertEquals(-1, todo.indexOf(UUID.randomUUID()));
+
+        todo.delete(0);
+        ImmutableTask task4 = todo.add("Task 4");
+        assertEquals(-1, todo.indexOf(task1.getUUID()));
+        assertEquals(0, todo.indexOf(task2.getUUID()));
+        assertEquals(1, todo.indexOf(task3.getUUID()));
+        assertEquals(2, todo.indexOf(task4.getUUID()));
+
+        todo.setTasks(ImmutableList.of(task4, task2));
+        assertEquals(0, todo.indexOf(task4.getUUID()));
+        assertEquals(1, todo.indexOf(task2.getUUID()));
+        assertEquals(-1, todo.indexOf(task3.getUUID()));
+    }
+
+    @Test
+    public void testGetTaskByUUID() throws Exception {
+        ImmutableTask task = todo.add("Task");
+
+        assertSame(task, todo.getTask(task.getUUID()).get());
+        assertFalse(todo.getTask(UUID.randomUUID()).isPresent());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked") // reset takes the mocks as generic varargs
+    public void testBatch() throws Exception {
+        ImmutableTask task1 = todo.add("Task 1");
+        ImmutableTask task2 = todo.add("Task 2");
+        reset(storage);
+
+        List<ListChangeListener.Change<? extends ImmutableTask>> changes = new ArrayList<>();
+        todo.getObservableList().addListener((ListChangeListener<ImmutableTask>) changes::add);
+        todo.startBatch();
+        ImmutableTask task3 = todo.add("Task 3");
+        todo.delete(0);
+        todo.update(0, t -> t.setPinned(true));
+        assertEquals(1, todo.indexOf(task3.getUUID()));
+        assertThat(changes, empty());
+        todo.endBatch();
+
+        assertEquals(1, changes.size());
+        verify(storage, times(1)).save(todo);
+        assertEquals(ImmutableList.of(task2, task3), todo.getTasks());
+        assertEquals(-1, todo.indexOf(task1.getUUID()));
+        assertTrue(task2.isPinned());
+    }
+
+    @Test
+    public void testDeleteMany() throws Exception {
+        List<ImmutableTask> tasks = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            tasks.add(todo.add("Task " + i));
+        }
+
+        List<ListChangeListener.Change<? extends ImmutableTask>> changes = new ArrayList<>();
+        List<ImmutableTask> removed = new ArrayList<>();
+        ObservableList<ImmutableTask> observableList = todo.getObservableList();
+        List<ImmutableTask> mirror = new ArrayList<>(observableList);
+        observableList.addListener((ListChangeListener<ImmutableTask>) change -> {
+            changes.add(change);
+            while (change.next()) {
+                assertTrue(change.wasRemoved());
+                assertFalse(change.wasAdded());
+                mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                removed.addAll(change.getRemoved());
+            }
+        });
+
+        todo.delete(ImmutableList.of(8, 0, 1, 4, 9, 5));
+
+        List<ImmutableTask> expected = ImmutableList.of(tasks.get(2), tasks.get(3), tasks.get(6), tasks.get(7));
+        assertEquals(expected, todo.getTasks());
+        assertEquals(expected, mirror);
+        assertEquals(1, changes.size());
+        assertEquals(ImmutableSet.of(tasks.get(0), tasks.get(1), tasks.get(4), tasks.get(5),
+            tasks.get(8), tasks.get(9)), new HashSet<>(removed));
+        assertEquals(2, todo.indexOf(tasks.get(6).getUUID()));
+        assertEquals(-1, todo.indexOf(tasks.get(5).getUUID()));
+    }
+
+    @Test
+    public void testUpdateIsReportedOnce() throws Exception {
+        todo.add("Task");
+
+        List<ListChangeListener.Change<? extends ImmutableTask>> changes = new ArrayList<>();
+        todo.getObservableList().addListener((ListChangeListener<ImmutableTask>) change -> {
+            while (change.next()) {
+                assertTrue(change.wasUpdated());
+            }
+            changes.add(change);
+        });
+        todo.update(0, t -> {
+            t.setTitle("New title");
+            t.setDescription("Description");
+            t.setPinned(true);
+        });
+
+        assertEquals(1, changes.size());
+    }
+
+    /**
+     * Creates a todo list that loads in the background, with the storage read right away and
+     * the batches of tasks queued up instead of run
+     */
+    private Queue<Runnable> setUpBackgroundLoading(List<ImmutableTask> storedTasks) {
+        Queue<Runnable> fxQueue = new ArrayDeque<>();
+        when(storageData.getTasks()).thenReturn(storedTasks);
+        todo = new TodoList(storage, null, Runnable::run, fxQueue::add);
+        return fxQueue;
+    }
+
+    private List<ImmutableTask> createTasks(int count) {
+        List<ImmutableTask> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tasks.add(TaskBuilder.name("Task " + i).build());
+        }
+        return tasks;
+    }
+
+    @Test
+    public void testBackgroundLoading() throws Exception {
+        List<ImmutableTask> storedTasks = createTasks(ProgressiveLoad.FIRST_SCREEN_SIZE + 1000);
+        Task pinned = TaskBuilder.name("Pinned").pinned().createdAt(LocalDateTime.now().minusDays(1)).build();
+        storedTasks.add(0, pinned);
+        Queue<Runnable> fxQueue = setUpBackgroundLoading(storedTasks);
+        assertThat(todo.getTasks(), empty());
+        assertEquals(0, todo.getLoadProgress().get(), 0);
+
+        // The first batch has the pinned task and the most recently updated tasks
+        fxQueue.remove().run();
+        assertEquals(ProgressiveLoad.FIRST_SCREEN_SIZE + 1, todo.getTasks().size());
+        assertTrue(todo.getTasks().contains(pinned));
+        assertTrue(todo.getTasks().contains(storedTasks.get(storedTasks.size() - 1)));
+
+        while (!fxQueue.isEmpty()) {
+            fxQueue.remove().run();
+        }
+        assertEquals(storedTasks, todo.getTasks());
+        assertEquals(1, todo.getLoadProgress().get(), 0);
+        verify(storage, never()).save(any());
+    }
+
+    @Test
+    public void testChangeFinishesLoading() throws Exception {
+        List<ImmutableTask> storedTasks = createTasks(ProgressiveLoad.FIRST_SCREEN_SIZE + 1000);
+        Queue<Runnable> fxQueue = setUpBackgroundLoading(storedTasks);
+        fxQueue.remove().run();
+
+        ImmutableTask added = todo.add("New task");
+
+        List<ImmutableTask> expected = new ArrayList<>(storedTasks);
+        expected.add(added);
+        assertEquals(expected, todo.getTasks());
+        assertEquals(1, todo.getLoadProgress().get(), 0);
+        verify(storage).save(todo);
+
+        // Batches that were already queued do nothing
+        fxQueue.forEach(Runnable::run);
+        assertEquals(expected, todo.getTasks());
+    }
 }
@@ -0,0 +1,107 @@
+package seedu.todo.model.tag;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Before;
+import org.junit.Test;
+import seedu.todo.model.task.ImmutableTask;
+import seedu.todo.testutil.TaskBuilder;
+
+import java.util.Collection;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+//@@author A0135817B
+public class UniqueTagCollectionTest {
+    private ImmutableTask task1;
+    private ImmutableTask task2;
+    private UniqueTagCollection tags;
+
+    @Before
+    public void setUp() {
+        task1 = TaskBuilder.name("Task 1").tagged("Work", "CS2103").build();
+        task2 = TaskBuilder.name("Task 2").tagged("work").build();
+        tags = new UniqueTagCollection(ImmutableList.of(task1, task2));
+    }
+
+    @Test
+    public void testUniqueTags() {
+        assertEquals(2, tags.getUniqueTagList().size());
+    }
+
+    @Test
+    public void testTasksLinkedToTag() {
+        assertEquals(ImmutableSet.of(task1, task2), tags.getTasksLinkedToTag("Work"));
+        assertEquals(ImmutableSet.of(task1, task2), tags.getTasksLinkedToTag("WORK"));
+        assertEquals(ImmutableSet.of(task1), tags.getTasksLinkedToTag("cs2103"));
+        assertTrue(tags.getTasksLinkedToTag("Missing").isEmpty());
+    }
+
+    @Test
+    public void testAssociateUsesExistingTag() {
+        ImmutableTask task3 = TaskBuilder.name("Task 3").build();
+        Collection<Tag> added = tags.associateTaskToTags(task3, new String[] { "WORK" });
+
+        // The existing tag is reused instead of being replaced by a tag with different case
+        assertEquals("Work", added.iterator().next().getTagName());
+        assertEquals(ImmutableSet.of(task1, task2, task3), tags.getTasksLinkedToTag("work"));
+        assertEquals(2, tags.getUniqueTagList().size());
+    }
+
+    @Test
+    public void testDissociate() {
+        tags.dissociateTaskFromTags(task1, new String[] { "cs2103" });
+        assertTrue(tags.getTasksLinkedToTag("CS2103").isEmpty());
+        assertEquals(1, tags.getUniqueTagList().size());
+
+        tags.dissociateTaskFromTags(task1, new String[] { "work" });
+        assertEquals(ImmutableSet.of(task2), tags.getTasksLinkedToTag("Work"));
+    }
+
+    @Test
+    public void testDeleteTags() {
+        tags.deleteTags(new String[] { "WORK" });
+        assertTrue(tags.getTasksLinkedToTag("Work").isEmpty());
+        assertEquals(1, tags.getUniqueTagList().size());
+
+        // A tag of the same name can be added again afterwards
+        tags.associateTaskToTags(task2, new String[] { "work" });
+        assertEquals(ImmutableSet.of(task2), tags.getTasksLinkedToTag("Work"));
+    }
+
+    @Test
+    public void testInternTag() {
+        assertSame(UniqueTagCollection.intern("homework"), UniqueTagCollection.intern("homework"));
+        assertNotSame(UniqueTagCollection.intern("homework"), UniqueTagCollection.intern("Homework"));
+        assertEquals("Homework", UniqueTagCollection.intern("Homework").getTagName());
+    }
+
+    @Test
+    public void testInternTagSet() {
+        Set<Tag> tagSet = UniqueTagCollection.intern(ImmutableSet.of(new Tag("homework"), new Tag("CS2103")));
+        assertSame(tagSet, UniqueTagCollection.intern(ImmutableSet.of(new Tag("CS2103"), new Tag("homework"))));
+        assertNotSame(tagSet, UniqueTagCollection.intern(ImmutableSet.of(new Tag("cs2103"), new Tag("homework"))));
+        assertEquals(ImmutableSet.of(new Tag("homework"), new Tag("CS2103")), tagSet);
+        for (Tag tag : tagSet) {
+            assertSame(UniqueTagCollection.intern(tag.getTagName()), tag);
+        }
+
+        assertTrue(UniqueTagCollection.intern(ImmutableSet.of()).isEmpty());
+        assertTrue(UniqueTagCollection.intern((Set<Tag>) null).isEmpty());
+    }
+
+    @Test
+    public void testTasksShareTags() {
+        ImmutableTask task3 = TaskBuilder.name("Task 3").tagged("homework").build();
+        ImmutableTask task4 = TaskBuilder.name("Task 4").tagged("homework").build();
+        assertSame(task3.getTags(), task4.getTags());
+    }
+
+    @Test
+    public void testNotifyTaskDeleted() {
+        tags.notifyTaskDeleted(task1);
+        assertEquals(ImmutableSet.of(task2), tags.getTasksLinkedToTag("work"));
+        assertTrue(tags.getTasksLinkedToTag("CS2103").isEmpty());
+    }
+}
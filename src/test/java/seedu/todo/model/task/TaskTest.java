@@ -6,8 +6,13 @@ import seedu.todo.commons.exceptions.ValidationException;
 import seedu.todo.model.tag.Tag;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.mock;
@@ -129,8 +134,45 @@ public class TaskTest {
     }
 
     @Test
-    public void testGetObservableProperties() {
-        assertEquals(8, task.getObservableProperties().length);
+    public void testCopiesShareTags() {
+        Set<Tag> tags = new HashSet<>();
+        tags.add(new Tag("tag"));
+        task.setTags(tags);
+
+        assertSame(task.getTags(), new Task(task).getTags());
+    }
+
+    @Test
+    public void testListener() {
+        List<Task> notified = new ArrayList<>();
+        Consumer<Task> listener = notified::add;
+        task.addListener(listener);
+
+        task.setTitle("New title");
+        task.setTitle("Another title");
+        assertEquals(Arrays.asList(task, task), notified);
+
+        task.removeListener(listener);
+        task.setTitle("Unobserved title");
+        assertEquals(2, notified.size());
+    }
+
+    @Test
+    public void testEdit() {
+        List<Task> notified = new ArrayList<>();
+        task.addListener(notified::add);
+
+        task.edit(t -> {
+            t.setTitle("New title");
+            t.setPinned(true);
+            t.setEndTime(LocalDateTime.now());
+            assertTrue(notified.isEmpty());
+        });
+        assertEquals(Collections.singletonList(task), notified);
+
+        // Edits that change nothing are not reported
+        task.edit(t -> t.setTitle("New title"));
+        assertEquals(1, notified.size());
     }
 
     @Test
@@ -0,0 +1,90 @@
+package seedu.todo.storage;
+
+import static org.junit.Assert.*;
+import static seedu.todo.testutil.TestUtil.isShallowEqual;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.collect.ImmutableList;
+
+import seedu.todo.model.task.ImmutableTask;
+import seedu.todo.testutil.TaskFactory;
+
+//@@author A0135817B
+public class ArchiveStorageTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private String todoListPath;
+    private ArchiveStorage archive;
+
+    @Before
+    public void setUp() {
+        todoListPath = new File(testFolder.getRoot(), "todolist.xml").getPath();
+        archive = new ArchiveStorage(todoListPath);
+    }
+
+    @Test
+    public void testEmptyArchive() {
+        assertTrue(archive.getPages().isEmpty());
+        assertFalse(new File(archive.getLocation()).exists());
+    }
+
+    @Test
+    public void testAddAndReadPages() throws Exception {
+        List<ImmutableTask> first = TaskFactory.list(1, 5);
+        List<ImmutableTask> second = TaskFactory.list(1, 5);
+
+        assertEquals(0, archive.addPage(first));
+        assertEquals(1, archive.addPage(second));
+
+        assertEquals(ImmutableList.of(1, 0), archive.getPages());
+        assertTrue(isShallowEqual(first, archive.readPage(0)));
+        assertTrue(isShallowEqual(second, archive.readPage(1)));
+    }
+
+    @Test
+    public void testSaveEmptyPageDeletesIt() throws Exception {
+        archive.addPage(TaskFactory.list(1, 5));
+        archive.savePage(0, ImmutableList.of());
+
+        assertTrue(archive.getPages().isEmpty());
+        thrown.expect(FileNotFoundException.class);
+        archive.readPage(0);
+    }
+
+    @Test
+    public void testMoveTo() throws Exception {
+        List<ImmutableTask> tasks = TaskFactory.list(1, 5);
+        archive.addPage(tasks);
+
+        String newPath = new File(testFolder.getRoot(), "moved.xml").getPath();
+        archive.moveTo(newPath);
+
+        assertEquals(newPath + ".archive", archive.getLocation());
+        assertFalse(new File(todoListPath + ".archive").exists());
+        assertTrue(isShallowEqual(tasks, new ArchiveStorage(newPath).readPage(0)));
+    }
+
+    @Test
+    public void testMoveToExistingArchive() throws Exception {
+        String newPath = new File(testFolder.getRoot(), "other.xml").getPath();
+        new ArchiveStorage(newPath).addPage(TaskFactory.list(1, 5));
+        archive.addPage(TaskFactory.list(1, 5));
+
+        thrown.expect(IOException.class);
+        archive.moveTo(newPath);
+    }
+}
@@ -0,0 +1,191 @@
+package seedu.todo.storage;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+import static seedu.todo.testutil.TestUtil.isShallowEqual;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+import com.google.common.collect.ImmutableSet;
+
+import seedu.todo.commons.events.storage.DataSavingExceptionEvent;
+import seedu.todo.model.ImmutableTodoList;
+import seedu.todo.model.task.ImmutableTask;
+import seedu.todo.model.task.Task;
+import seedu.todo.testutil.EventsCollector;
+import seedu.todo.testutil.TaskFactory;
+
+//@@author A0135817B
+public class AsyncTodoListStorageTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public MockitoRule mockito = MockitoJUnit.rule();
+
+    @Mock private MovableStorage<ImmutableTodoList> delegate;
+    private AsyncTodoListStorage storage;
+    private List<ImmutableTask> tasks;
+    private ImmutableTodoList todoList = () -> tasks;
+
+    @Before
+    public void setUp() {
+        storage = new AsyncTodoListStorage(delegate, Runnable::run);
+        tasks = new ArrayList<>(TaskFactory.list());
+    }
+
+    private ImmutableTodoList getLastSaved() throws IOException {
+        ArgumentCaptor<ImmutableTodoList> captor = ArgumentCaptor.forClass(ImmutableTodoList.class);
+        verify(delegate, atLeastOnce()).save(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    public void testSaveIsWritten() throws Exception {
+        storage.save(todoList);
+        storage.flush();
+
+        assertTrue(isShallowEqual(tasks, getLastSaved().getTasks()));
+    }
+
+    @Test
+    public void testSavesAreCoalesced() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            tasks.add(TaskFactory.random());
+            storage.save(todoList);
+        }
+        storage.flush();
+
+        verify(delegate, atMost(2)).save(any(ImmutableTodoList.class));
+        assertTrue(isShallowEqual(tasks, getLastSaved().getTasks()));
+    }
+
+    @Test
+    public void testSaveIsCopied() throws Exception {
+        storage.save(todoList);
+        ((Task) tasks.get(0)).setTitle("Changed after save");
+        storage.flush();
+
+        assertNotEquals("Changed after save", getLastSaved().getTasks().get(0).getTitle());
+    }
+
+    @Test
+    public void testFailedSaveRaisesEvent() throws Exception {
+        EventsCollector events = new EventsCollector();
+        doThrow(new IOException("Disk full")).when(delegate).save(any(ImmutableTodoList.class));
+
+        storage.save(todoList);
+        storage.flush();
+
+        assertTrue(events.last() instanceof DataSavingExceptionEvent);
+    }
+
+    @Test
+    public void testUnexpectedExceptionRaisesEvent() throws Exception {
+        EventsCollector events = new EventsCollector();
+        doThrow(new IllegalStateException("Bad task")).when(delegate).save(any(ImmutableTodoList.class));
+
+        storage.save(todoList);
+        storage.flush();
+
+        assertTrue(events.last() instanceof DataSavingExceptionEvent);
+    }
+
+    @Test
+    public void testIncrementalSaveOnlyCopiesChangedTasks() throws Exception {
+        IncrementalTodoListStorage incrementalDelegate = mock(IncrementalTodoListStorage.class);
+        storage = new AsyncTodoListStorage(incrementalDelegate, Runnable::run);
+        ArgumentCaptor<ImmutableTodoList> captor = ArgumentCaptor.forClass(ImmutableTodoList.class);
+        tasks = new ArrayList<>(TaskFactory.list(3, 10));
+
+        storage.save(todoList);
+        storage.flush();
+        verify(incrementalDelegate).save(captor.capture());
+        List<ImmutableTask> fullSave = captor.getValue().getTasks();
+
+        Task changed = (Task) tasks.get(1);
+        changed.setTitle("Changed title");
+        ImmutableTask added = TaskFactory.random();
+        tasks.remove(0);
+        tasks.add(added);
+        storage.saveChanges(todoList, ImmutableSet.of(fullSave.get(0).getUUID(), changed.getUUID(), added.getUUID()));
+        storage.flush();
+        verify(incrementalDelegate).saveChanges(captor.capture(), any());
+        List<ImmutableTask> incrementalSave = captor.getValue().getTasks();
+
+        assertTrue(isShallowEqual(tasks, incrementalSave));
+        assertNotSame(changed, incrementalSave.get(0));
+        assertNotSame(fullSave.get(1), incrementalSave.get(0));
+        assertNotSame(added, incrementalSave.get(incrementalSave.size() - 1));
+        // Tasks that did not change share the copies made for the earlier save
+        for (int i = 1; i < incrementalSave.size() - 1; i++) {
+            assertSame(fullSave.get(i + 1), incrementalSave.get(i));
+        }
+    }
+
+    @Test
+    public void testCoalescedChangesAreMerged() throws Exception {
+        IncrementalTodoListStorage incrementalDelegate = mock(IncrementalTodoListStorage.class);
+        storage = new AsyncTodoListStorage(incrementalDelegate, Runnable::run);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        storage.saveChanges(todoList, ImmutableSet.of(first));
+        storage.saveChanges(todoList, ImmutableSet.of(second));
+        storage.flush();
+
+        verify(incrementalDelegate).saveChanges(any(ImmutableTodoList.class), eq(ImmutableSet.of(first, second)));
+        verify(incrementalDelegate, never()).save(any(ImmutableTodoList.class));
+    }
+
+    @Test
+    public void testFullSaveAfterFailedIncrementalSave() throws Exception {
+        IncrementalTodoListStorage incrementalDelegate = mock(IncrementalTodoListStorage.class);
+        storage = new AsyncTodoListStorage(incrementalDelegate, Runnable::run);
+        doThrow(new IOException()).when(incrementalDelegate).saveChanges(any(), any());
+
+        storage.saveChanges(todoList, ImmutableSet.of(UUID.randomUUID()));
+        storage.flush();
+        storage.saveChanges(todoList, ImmutableSet.of(UUID.randomUUID()));
+        storage.flush();
+
+        verify(incrementalDelegate, times(1)).saveChanges(any(), any());
+        verify(incrementalDelegate).save(any(ImmutableTodoList.class));
+    }
+
+    @Test
+    public void testReadWaitsForPendingSave() throws Exception {
+        storage.save(todoList);
+        storage.read();
+
+        verify(delegate).save(any(ImmutableTodoList.class));
+        verify(delegate).read(anyString());
+    }
+
+    @Test
+    public void testReadExceptionIsRethrown() throws Exception {
+        when(delegate.read(anyString())).thenThrow(new FileNotFoundException());
+        thrown.expect(FileNotFoundException.class);
+        storage.read("missing.xml");
+    }
+
+    @Test
+    public void testSaveToNewLocationExceptionIsRethrown() throws Exception {
+        doThrow(new IOException()).when(delegate).save(any(ImmutableTodoList.class), eq("bad.xml"));
+        thrown.expect(IOException.class);
+        storage.save(todoList, "bad.xml");
+    }
+}
@@ -0,0 +1,149 @@
+package seedu.todo.storage;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+import static seedu.todo.testutil.TestUtil.isShallowEqual;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+import com.google.common.collect.ImmutableList;
+
+import seedu.todo.commons.exceptions.DataConversionException;
+import seedu.todo.model.ImmutableTodoList;
+import seedu.todo.model.task.ImmutableTask;
+import seedu.todo.model.task.Task;
+import seedu.todo.testutil.TaskFactory;
+import seedu.todo.testutil.TestUtil;
+
+//@@author A0135817B
+public class BinaryTodoListStorageTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Rule
+    public MockitoRule mockito = MockitoJUnit.rule();
+
+    @Mock private ImmutableTodoList original;
+    private String filePath;
+    private BinaryTodoListStorage storage;
+
+    @Before
+    public void setUp() {
+        filePath = new File(testFolder.getRoot(), "todolist.bin").getPath();
+        storage = new BinaryTodoListStorage(filePath);
+        when(original.getTasks()).thenReturn(Collections.emptyList());
+    }
+
+    @Test
+    public void testMissingFile() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        storage.read();
+    }
+
+    @Test
+    public void testReadNonBinaryFile() throws Exception {
+        new TodoListStorage(filePath).save(original);
+        thrown.expect(DataConversionException.class);
+        storage.read();
+    }
+
+    @Test
+    public void testReadTruncatedFile() throws Exception {
+        when(original.getTasks()).thenReturn(TaskFactory.list());
+        storage.save(original);
+
+        Path path = Paths.get(filePath);
+        byte[] contents = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(contents, contents.length / 2));
+
+        thrown.expect(DataConversionException.class);
+        storage.read();
+    }
+
+    @Test
+    public void testReadBlankTitle() throws Exception {
+        when(original.getTasks()).thenReturn(ImmutableList.of(new Task("Valid"), new Task("  ")));
+        storage.save(original);
+
+        thrown.expect(DataConversionException.class);
+        storage.read();
+    }
+
+    @Test
+    public void testEmptySave() throws Exception {
+        storage.save(original);
+        assertTrue(storage.read().getTasks().isEmpty());
+    }
+
+    @Test
+    public void testReadAndSave() throws Exception {
+        List<ImmutableTask> tasks = ImmutableList.<ImmutableTask>builder()
+            .addAll(TaskFactory.list())
+            .add(TaskFactory.fullTaggedTask())
+            .add(TaskFactory.fullTaggedEvent())
+            .build();
+        when(original.getTasks()).thenReturn(tasks);
+
+        storage.save(original);
+        List<ImmutableTask> readBack = storage.read().getTasks();
+
+        assertTrue(isShallowEqual(tasks, readBack));
+        for (int i = 0; i < tasks.size(); i++) {
+            TestUtil.assertAllPropertiesEqual(tasks.get(i), readBack.get(i));
+        }
+    }
+
+    @Test
+    public void testTimePrecision() throws Exception {
+        Task task = new Task("Precise");
+        task.setStartTime(LocalDateTime.of(1969, 7, 20, 20, 17, 40, 123456789));
+        task.setEndTime(LocalDateTime.of(2016, 11, 7, 12, 0));
+        task.setCreatedAt(LocalDateTime.of(2016, 11, 7, 11, 59, 59));
+        when(original.getTasks()).thenReturn(ImmutableList.of(task));
+
+        storage.save(original);
+        ImmutableTask readBack = storage.read().getTasks().get(0);
+
+        assertEquals(task.getStartTime(), readBack.getStartTime());
+        assertEquals(task.getEndTime(), readBack.getEndTime());
+        assertEquals(task.getCreatedAt(), readBack.getCreatedAt());
+    }
+
+    @Test
+    public void testSaveToNewLocation() throws Exception {
+        when(original.getTasks()).thenReturn(TaskFactory.list());
+        String newPath = new File(testFolder.getRoot(), "other.bin").getPath();
+
+        storage.save(original, newPath);
+
+        assertEquals(newPath, storage.getLocation());
+        assertTrue(isShallowEqual(original.getTasks(), storage.read(newPath).getTasks()));
+    }
+
+    @Test
+    public void testSaveNullTodoList() throws IOException {
+        thrown.expect(AssertionError.class);
+        storage.save(null);
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.todo.storage;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+import static seedu.todo.testutil.TestUtil.isShallowEqual;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.todo.commons.util.FileUtil;
+import seedu.todo.model.ImmutableTodoList;
+import seedu.todo.model.task.ImmutableTask;
+import seedu.todo.testutil.TaskFactory;
+
+//@@author A0135817B
+public class CachedTodoListStorageTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private String filePath;
+    private File cacheFile;
+    private TodoListStorage xmlStorage;
+    private CachedTodoListStorage storage;
+    private List<ImmutableTask> tasks = TaskFactory.list();
+    private ImmutableTodoList todoList = () -> tasks;
+
+    @Before
+    public void setUp() throws Exception {
+        filePath = new File(testFolder.getRoot(), "todolist.xml").getPath();
+        cacheFile = new File(filePath + ".cache");
+        xmlStorage = spy(new TodoListStorage(filePath));
+        storage = new CachedTodoListStorage(xmlStorage);
+    }
+
+    @Test
+    public void testMissingFile() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        storage.read();
+    }
+
+    @Test
+    public void testSaveWritesCache() throws Exception {
+        storage.save(todoList);
+        assertTrue(cacheFile.exists());
+
+        assertTrue(isShallowEqual(tasks, storage.read().getTasks()));
+        verify(xmlStorage, never()).read(anyString());
+    }
+
+    @Test
+    public void testReadWritesCache() throws Exception {
+        new TodoListStorage(filePath).save(todoList);
+
+        assertTrue(isShallowEqual(tasks, storage.read().getTasks()));
+        assertTrue(isShallowEqual(tasks, storage.read().getTasks()));
+        verify(xmlStorage, times(1)).read(anyString());
+    }
+
+    @Test
+    public void testCacheIgnoredAfterFileChanged() throws Exception {
+        storage.save(todoList);
+
+        // Replace the file behind the cache's back, keeping the same size and modification time
+        File file = new File(filePath);
+        long lastModified = file.lastModified();
+        String contents = FileUtil.readFromFile(file);
+        ImmutableTask first = tasks.get(0);
+        String changedTitle = new StringBuilder(first.getTitle()).reverse().toString();
+        FileUtil.writeToFile(file, contents.replace(first.getTitle(), changedTitle));
+        assertTrue(file.setLastModified(lastModified));
+
+        assertEquals(changedTitle, storage.read().getTasks().get(0).getTitle());
+        verify(xmlStorage).read(anyString());
+    }
+
+    @Test
+    public void testCorruptCacheIgnored() throws Exception {
+        storage.save(todoList);
+        FileUtil.writeToFile(cacheFile, "Not a cache");
+
+        assertTrue(isShallowEqual(tasks, storage.read().getTasks()));
+        verify(xmlStorage).read(anyString());
+    }
+
+    @Test
+    public void testSaveToNewLocation() throws Exception {
+        String newPath = new File(testFolder.getRoot(), "other.xml").getPath();
+        storage.save(todoList, newPath);
+
+        assertTrue(new File(newPath + ".cache").exists());
+        assertTrue(isShallowEqual(tasks, storage.read(newPath).getTasks()));
+        verify(xmlStorage, never()).read(anyString());
+    }
+
+    @Test
+    public void testOtherFormatsNotCached() throws Exception {
+        new BinaryTodoListStorage(filePath).save(todoList);
+        storage = new CachedTodoListStorage(new MultiFormatTodoListStorage(filePath, TodoListFormat.XML));
+
+        assertTrue(isShallowEqual(tasks, storage.read().getTasks()));
+        assertFalse(cacheFile.exists());
+    }
+}
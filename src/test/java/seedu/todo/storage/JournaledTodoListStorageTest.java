@@ -0,0 +1,186 @@
+package seedu.todo.storage;
+
+import static org.junit.Assert.*;
+import static seedu.todo.testutil.TestUtil.isShallowEqual;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.todo.commons.util.FileUtil;
+import seedu.todo.model.ImmutableTodoList;
+import seedu.todo.model.task.ImmutableTask;
+import seedu.todo.model.task.Task;
+import seedu.todo.testutil.TaskFactory;
+
+//@@author A0135817B
+public class JournaledTodoListStorageTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private String filePath;
+    private File journal;
+    private JournaledTodoListStorage storage;
+    private List<ImmutableTask> tasks;
+    private ImmutableTodoList todoList = () -> tasks;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().getPath() + File.separator + "TestTodoList.xml";
+        journal = new File(filePath + ".journal");
+        storage = new JournaledTodoListStorage(new TodoListStorage(filePath));
+        tasks = new ArrayList<>(TaskFactory.list());
+    }
+
+    private ImmutableTodoList readBack() throws Exception {
+        return new JournaledTodoListStorage(new TodoListStorage(filePath)).read();
+    }
+
+    @Test
+    public void testMissingFile() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        storage.read();
+    }
+
+    @Test
+    public void testFirstSaveWritesSnapshot() throws Exception {
+        storage.save(todoList);
+
+        assertTrue(new File(filePath).exists());
+        assertTrue(isShallowEqual(tasks, new TodoListStorage(filePath).read().getTasks()));
+        assertTrue(isShallowEqual(tasks, readBack().getTasks()));
+    }
+
+    @Test
+    public void testChangesAreJournaled() throws Exception {
+        storage.save(todoList);
+        String snapshot = FileUtil.readFromFile(new File(filePath));
+
+        tasks.add(TaskFactory.random());
+        ((Task) tasks.get(0)).setCompleted(true);
+        storage.save(todoList);
+
+        tasks.remove(1);
+        storage.save(todoList);
+
+        // The snapshot is not touched, but the changes are still read back
+        assertEquals(snapshot, FileUtil.readFromFile(new File(filePath)));
+        assertTrue(isShallowEqual(tasks, readBack().getTasks()));
+    }
+
+    @Test
+    public void testJournalReplayedOverCorruptSnapshot() throws Exception {
+        tasks.add(1, new Task(" "));
+        storage.save(todoList);
+        ImmutableTask added = TaskFactory.random();
+        tasks.add(added);
+        storage.save(todoList);
+
+        storage = new JournaledTodoListStorage(new TodoListStorage(filePath));
+        try {
+            storage.read();
+            fail();
+        } catch (CorruptTasksException e) {
+            tasks.remove(1);
+            assertTrue(isShallowEqual(tasks, e.getTasks()));
+        }
+
+        // The snapshot with the corrupt task is replaced instead of being journaled over
+        storage.save(todoList);
+        assertTrue(isShallowEqual(tasks, new TodoListStorage(filePath).read().getTasks()));
+    }
+
+    @Test
+    public void testUnchangedListIsNotJournaled() throws Exception {
+        storage.save(todoList);
+        long journalLength = journal.length();
+
+        storage.save(todoList);
+        assertEquals(journalLength, journal.length());
+    }
+
+    @Test
+    public void testUuidIsPreserved() throws Exception {
+        storage.save(todoList);
+        List<ImmutableTask> readTasks = readBack().getTasks();
+
+        for (int i = 0; i < tasks.size(); i++) {
+            assertEquals(tasks.get(i).getUUID(), readTasks.get(i).getUUID());
+        }
+    }
+
+    @Test
+    public void testReorderWritesSnapshot() throws Exception {
+        tasks.add(TaskFactory.random());
+        tasks.add(TaskFactory.random());
+        storage.save(todoList);
+
+        ImmutableTask first = tasks.remove(0);
+        tasks.add(first);
+        storage.save(todoList);
+
+        assertTrue(isShallowEqual(tasks, new TodoListStorage(filePath).read().getTasks()));
+        assertTrue(isShallowEqual(tasks, readBack().getTasks()));
+    }
+
+    @Test
+    public void testCompaction() throws Exception {
+        storage.save(todoList);
+        Task task = (Task) tasks.get(0);
+
+        for (int i = 0; i < 600; i++) {
+            task.setPinned(!task.isPinned());
+            storage.save(todoList);
+        }
+
+        assertTrue(isShallowEqual(tasks, readBack().getTasks()));
+        assertTrue(journal.length() < 500 * 100);
+    }
+
+    @Test
+    public void testStaleJournalIgnored() throws Exception {
+        storage.save(todoList);
+        tasks.add(TaskFactory.random());
+        storage.save(todoList);
+        String staleJournal = FileUtil.readFromFile(journal);
+
+        // Simulate a snapshot being written without the journal being reset
+        tasks.remove(tasks.size() - 1);
+        new TodoListStorage(filePath).save(todoList);
+        FileUtil.writeToFile(journal, staleJournal);
+
+        assertTrue(isShallowEqual(tasks, readBack().getTasks()));
+    }
+
+    @Test
+    public void testCorruptedRecordStopsReplay() throws Exception {
+        storage.save(todoList);
+        FileUtil.appendToFile(journal, "{\"uuid\":\"not-quite");
+
+        assertTrue(isShallowEqual(tasks, readBack().getTasks()));
+    }
+
+    @Test
+    public void testSaveToNewLocation() throws Exception {
+        String newPath = testFolder.getRoot().getPath() + File.separator + "NewTodoList.xml";
+        storage.save(todoList);
+        storage.save(todoList, newPath);
+
+        tasks.add(TaskFactory.random());
+        storage.save(todoList);
+
+        assertEquals(newPath, storage.getLocation());
+        assertTrue(new File(newPath + ".journal").exists());
+        assertTrue(isShallowEqual(tasks, storage.read(newPath).getTasks()));
+    }
+}
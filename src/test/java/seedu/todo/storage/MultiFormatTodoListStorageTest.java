@@ -0,0 +1,113 @@
+package seedu.todo.storage;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+import static seedu.todo.testutil.TestUtil.isShallowEqual;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+import seedu.todo.model.ImmutableTodoList;
+import seedu.todo.testutil.TaskFactory;
+
+//@@author A0135817B
+public class MultiFormatTodoListStorageTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Rule
+    public MockitoRule mockito = MockitoJUnit.rule();
+
+    @Mock private ImmutableTodoList original;
+    private String xmlPath;
+    private String binaryPath;
+    private MultiFormatTodoListStorage storage;
+
+    @Before
+    public void setUp() {
+        xmlPath = new File(testFolder.getRoot(), "todolist.xml").getPath();
+        binaryPath = new File(testFolder.getRoot(), "todolist.bin").getPath();
+        storage = new MultiFormatTodoListStorage(xmlPath, TodoListFormat.XML);
+        when(original.getTasks()).thenReturn(TaskFactory.list());
+    }
+
+    @Test
+    public void testSavesInConfiguredFormat() throws Exception {
+        storage = new MultiFormatTodoListStorage(xmlPath, TodoListFormat.BINARY);
+        storage.save(original);
+
+        assertEquals(TodoListFormat.BINARY, TodoListFormat.detect(new File(xmlPath)));
+        assertTrue(isShallowEqual(original.getTasks(), storage.read().getTasks()));
+    }
+
+    @Test
+    public void testSaveConvertsByExtension() throws Exception {
+        storage.save(original);
+        storage.save(original, binaryPath);
+
+        assertEquals(TodoListFormat.BINARY, storage.getFormat());
+        assertEquals(binaryPath, storage.getLocation());
+        assertEquals(TodoListFormat.BINARY, TodoListFormat.detect(new File(binaryPath)));
+        assertTrue(isShallowEqual(original.getTasks(), new BinaryTodoListStorage(binaryPath).read().getTasks()));
+
+        // And back again
+        storage.save(original, xmlPath);
+        assertEquals(TodoListFormat.XML, storage.getFormat());
+        assertTrue(isShallowEqual(original.getTasks(), new TodoListStorage(xmlPath).read().getTasks()));
+    }
+
+    @Test
+    public void testUnknownExtensionKeepsFormat() throws Exception {
+        String otherPath = new File(testFolder.getRoot(), "backup.dat").getPath();
+        storage = new MultiFormatTodoListStorage(binaryPath, TodoListFormat.BINARY);
+        storage.save(original, otherPath);
+
+        assertEquals(TodoListFormat.BINARY, storage.getFormat());
+        assertEquals(TodoListFormat.BINARY, TodoListFormat.detect(new File(otherPath)));
+    }
+
+    @Test
+    public void testReadDetectsFormat() throws Exception {
+        // A binary file with an .xml extension is still read correctly
+        new BinaryTodoListStorage(xmlPath).save(original);
+        assertTrue(isShallowEqual(original.getTasks(), storage.read(xmlPath).getTasks()));
+
+        new TodoListStorage(binaryPath).save(original);
+        assertTrue(isShallowEqual(original.getTasks(), storage.read(binaryPath).getTasks()));
+    }
+
+    @Test
+    public void testSegmentedFormat() throws Exception {
+        String segmentedPath = new File(testFolder.getRoot(), "todolist.seg").getPath();
+        storage.save(original, segmentedPath);
+
+        assertEquals(TodoListFormat.SEGMENTED, storage.getFormat());
+        assertEquals(TodoListFormat.SEGMENTED, TodoListFormat.detect(new File(segmentedPath)));
+        assertTrue(isShallowEqual(original.getTasks(), storage.read().getTasks()));
+    }
+
+    @Test
+    public void testMissingFile() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        storage.read();
+    }
+
+    @Test
+    public void testFormatFromName() {
+        assertEquals(TodoListFormat.XML, TodoListFormat.fromName("xml").get());
+        assertEquals(TodoListFormat.BINARY, TodoListFormat.fromName("Binary").get());
+        assertFalse(TodoListFormat.fromName("yaml").isPresent());
+    }
+}
@@ -0,0 +1,177 @@
+package seedu.todo.storage;
+
+import static org.junit.Assert.*;
+import static seedu.todo.testutil.TestUtil.isShallowEqual;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.collect.ImmutableSet;
+
+import seedu.todo.commons.exceptions.DataConversionException;
+import seedu.todo.model.ImmutableTodoList;
+import seedu.todo.model.task.ImmutableTask;
+import seedu.todo.model.task.Task;
+import seedu.todo.testutil.TaskFactory;
+
+//@@author A0135817B
+public class SegmentedTodoListStorageTest {
+    private static final int TASK_COUNT = SegmentedTodoListStorage.SEGMENT_SIZE * 3 + 10;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private String filePath;
+    private SegmentedTodoListStorage storage;
+    private List<ImmutableTask> tasks;
+    private ImmutableTodoList todoList = () -> tasks;
+
+    @Before
+    public void setUp() throws Exception {
+        filePath = new File(testFolder.getRoot(), "todolist.seg").getPath();
+        storage = new SegmentedTodoListStorage(filePath);
+
+        tasks = new ArrayList<>();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            tasks.add(TaskFactory.random());
+        }
+        storage.save(todoList);
+    }
+
+    /**
+     * Reads the list back with a new storage, so nothing cached in memory is used
+     */
+    private List<ImmutableTask> readBack() throws Exception {
+        return new SegmentedTodoListStorage(filePath).read().getTasks();
+    }
+
+    /**
+     * Marks every segment file as old, so that segments written after this can be counted
+     */
+    private void markSegmentsAsOld() {
+        for (File file : new File(filePath + ".segments").listFiles()) {
+            assertTrue(file.setLastModified(0));
+        }
+    }
+
+    private int countRewrittenSegments() {
+        int count = 0;
+        for (File file : new File(filePath + ".segments").listFiles()) {
+            if (file.lastModified() != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Test
+    public void testReadAndSave() throws Exception {
+        assertTrue(isShallowEqual(tasks, readBack()));
+        assertEquals(4, new File(filePath + ".segments").listFiles().length);
+    }
+
+    @Test
+    public void testEmptySave() throws Exception {
+        tasks.clear();
+        storage.save(todoList);
+
+        assertTrue(readBack().isEmpty());
+        assertEquals(0, new File(filePath + ".segments").listFiles().length);
+    }
+
+    @Test
+    public void testMissingFile() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        storage.read(new File(testFolder.getRoot(), "missing.seg").getPath());
+    }
+
+    @Test
+    public void testMissingSegment() throws Exception {
+        assertTrue(SegmentedTodoListStorage.getSegmentFile(filePath, 0).delete());
+        thrown.expect(DataConversionException.class);
+        readBack();
+    }
+
+    @Test
+    public void testUpdateRewritesOneSegment() throws Exception {
+        markSegmentsAsOld();
+
+        Task task = new Task(tasks.get(100));
+        task.setCompleted(!task.isCompleted());
+        tasks.set(100, task);
+        storage.saveChanges(todoList, ImmutableSet.of(task.getUUID()));
+
+        assertEquals(1, countRewrittenSegments());
+        assertTrue(isShallowEqual(tasks, readBack()));
+    }
+
+    @Test
+    public void testAddAndRemove() throws Exception {
+        markSegmentsAsOld();
+
+        ImmutableTask added = TaskFactory.random();
+        ImmutableTask removed = tasks.remove(5);
+        tasks.add(added);
+        storage.saveChanges(todoList, ImmutableSet.of(added.getUUID(), removed.getUUID()));
+
+        assertEquals(2, countRewrittenSegments());
+        assertTrue(isShallowEqual(tasks, readBack()));
+    }
+
+    @Test
+    public void testRemoveWholeSegment() throws Exception {
+        List<ImmutableTask> removed = new ArrayList<>(tasks.subList(TASK_COUNT - 10, TASK_COUNT));
+        tasks.removeAll(removed);
+
+        ImmutableSet.Builder<UUID> changes = ImmutableSet.builder();
+        removed.forEach(task -> changes.add(task.getUUID()));
+        storage.saveChanges(todoList, changes.build());
+
+        assertTrue(isShallowEqual(tasks, readBack()));
+        assertEquals(3, new File(filePath + ".segments").listFiles().length);
+    }
+
+    @Test
+    public void testUnknownChangesFallBackToFullSave() throws Exception {
+        // A task that is not in the changes cannot be in a position the storage does not expect
+        tasks.add(0, TaskFactory.random());
+        storage.saveChanges(todoList, ImmutableSet.of());
+
+        assertTrue(isShallowEqual(tasks, readBack()));
+    }
+
+    @Test
+    public void testSaveChangesBeforeRead() throws Exception {
+        storage = new SegmentedTodoListStorage(filePath);
+        tasks.add(TaskFactory.random());
+        storage.saveChanges(todoList, ImmutableSet.of(tasks.get(tasks.size() - 1).getUUID()));
+
+        assertTrue(isShallowEqual(tasks, readBack()));
+    }
+
+    @Test
+    public void testSaveChangesAfterRead() throws Exception {
+        storage = new SegmentedTodoListStorage(filePath);
+        tasks = new ArrayList<>(storage.read().getTasks());
+        markSegmentsAsOld();
+
+        ImmutableTask added = TaskFactory.random();
+        tasks.add(added);
+        storage.saveChanges(todoList, ImmutableSet.of(added.getUUID()));
+
+        assertEquals(1, countRewrittenSegments());
+        assertTrue(isShallowEqual(tasks, readBack()));
+    }
+}
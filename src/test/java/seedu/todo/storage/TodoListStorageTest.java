@@ -7,7 +7,11 @@ import static org.mockito.Mockito.*;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -21,6 +25,8 @@ import org.mockito.junit.MockitoRule;
 import seedu.todo.commons.exceptions.DataConversionException;
 import seedu.todo.commons.util.FileUtil;
 import seedu.todo.model.ImmutableTodoList;
+import seedu.todo.model.task.ImmutableTask;
+import seedu.todo.model.task.Task;
 import seedu.todo.testutil.TaskFactory;
 
 //@@author A0135817B-reused
@@ -84,6 +90,29 @@ public class TodoListStorageTest {
         }
     }
 
+    //@@author A0135817B
+    @Test
+    public void testCorruptTasksAreKept() throws Exception {
+        List<ImmutableTask> tasks = new ArrayList<>(TaskFactory.list());
+        tasks.add(1, new Task(" "));
+        when(original.getTasks()).thenReturn(tasks);
+        storage.save(original);
+        byte[] saved = Files.readAllBytes(Paths.get(filePath));
+
+        try {
+            storage.read();
+            fail();
+        } catch (CorruptTasksException e) {
+            tasks.remove(1);
+            assertTrue(isShallowEqual(tasks, e.getTasks()));
+            assertTrue(e.getMessage().contains("Task no. 2"));
+        }
+
+        // The file is copied before the tasks that could be read are saved over it
+        assertArrayEquals(saved, Files.readAllBytes(Paths.get(filePath + ".corrupt")));
+    }
+
+    //@@author A0135817B-reused
     @Test
     public void testEmptySave() throws Exception {
         storage.save(original);
@@ -0,0 +1,177 @@
+package seedu.todo.storage;
+
+import static org.junit.Assert.*;
+import static seedu.todo.testutil.TestUtil.isShallowEqual;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.collect.ImmutableList;
+
+import seedu.todo.commons.exceptions.DataConversionException;
+import seedu.todo.model.UndoStep;
+import seedu.todo.model.task.ImmutableTask;
+import seedu.todo.testutil.TaskFactory;
+
+//@@author A0135817B
+public class UndoLogStorageTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private String todoListPath;
+    private UndoLogStorage log;
+
+    @Before
+    public void setUp() {
+        todoListPath = new File(testFolder.getRoot(), "todolist.xml").getPath();
+        log = new UndoLogStorage(todoListPath, Runnable::run);
+    }
+
+    private static UndoStep createStep() {
+        ImmutableTask before = TaskFactory.fullTaggedTask();
+        ImmutableTask added = TaskFactory.task();
+        return new UndoStep(ImmutableList.of(
+            new UndoStep.Change(before.getUUID(), before, TaskFactory.task(), null, null),
+            new UndoStep.Change(added.getUUID(), null, added, null, before.getUUID())));
+    }
+
+    private static void assertStepEquals(UndoStep expected, UndoStep actual) {
+        assertEquals(expected.getChanges().size(), actual.getChanges().size());
+        for (int i = 0; i < expected.getChanges().size(); i++) {
+            UndoStep.Change expectedChange = expected.getChanges().get(i);
+            UndoStep.Change actualChange = actual.getChanges().get(i);
+
+            assertEquals(expectedChange.getUUID(), actualChange.getUUID());
+            assertEquals(expectedChange.getBeforePredecessor(), actualChange.getBeforePredecessor());
+            assertEquals(expectedChange.getAfterPredecessor(), actualChange.getAfterPredecessor());
+            assertEquals(expectedChange.getBefore().isPresent(), actualChange.getBefore().isPresent());
+            assertEquals(expectedChange.getAfter().isPresent(), actualChange.getAfter().isPresent());
+            if (expectedChange.getBefore().isPresent()) {
+                assertTrue(isShallowEqual(expectedChange.getBefore().get(), actualChange.getBefore().get()));
+            }
+            if (expectedChange.getAfter().isPresent()) {
+                assertTrue(isShallowEqual(expectedChange.getAfter().get(), actualChange.getAfter().get()));
+            }
+        }
+    }
+
+    @Test
+    public void testEmptyLog() throws Exception {
+        UndoLogStorage.History history = log.read();
+        assertTrue(history.getUndoSteps().isEmpty());
+        assertTrue(history.getRedoSteps().isEmpty());
+        assertFalse(new File(log.getLocation()).exists());
+    }
+
+    @Test
+    public void testReplay() throws Exception {
+        UndoStep first = createStep();
+        UndoStep second = createStep();
+        UndoStep third = createStep();
+
+        log.appendStep(first);
+        log.appendStep(second);
+        log.appendStep(third);
+        log.appendUndo();
+        log.appendUndo();
+        log.appendRedo();
+
+        UndoLogStorage.History history = new UndoLogStorage(todoListPath, Runnable::run).read();
+        assertEquals(2, history.getUndoSteps().size());
+        assertStepEquals(second, history.getUndoSteps().get(0));
+        assertStepEquals(first, history.getUndoSteps().get(1));
+        assertEquals(1, history.getRedoSteps().size());
+        assertStepEquals(third, history.getRedoSteps().get(0));
+    }
+
+    @Test
+    public void testNewStepClearsRedo() throws Exception {
+        log.appendStep(createStep());
+        log.appendUndo();
+        log.appendStep(createStep());
+
+        UndoLogStorage.History history = log.read();
+        assertEquals(1, history.getUndoSteps().size());
+        assertTrue(history.getRedoSteps().isEmpty());
+    }
+
+    @Test
+    public void testClear() throws Exception {
+        log.appendStep(createStep());
+        log.appendClear();
+
+        assertTrue(log.read().getUndoSteps().isEmpty());
+    }
+
+    @Test
+    public void testIncompleteRecordIgnored() throws Exception {
+        UndoStep step = createStep();
+        log.appendStep(step);
+        log.appendStep(createStep());
+
+        // Cut the last record short, as if the app was closed while writing it
+        File file = new File(log.getLocation());
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(file.length() - 10);
+        }
+
+        List<UndoStep> undoSteps = log.read().getUndoSteps();
+        assertEquals(1, undoSteps.size());
+        assertStepEquals(step, undoSteps.get(0));
+
+        // Truncating removes the incomplete record, so later records can be read
+        log.truncate(Long.MAX_VALUE / 2);
+        log.appendStep(createStep());
+        assertEquals(2, log.read().getUndoSteps().size());
+    }
+
+    @Test
+    public void testTruncate() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            log.appendStep(createStep());
+        }
+        UndoStep redoStep = createStep();
+        log.appendStep(redoStep);
+        log.appendUndo();
+
+        long size = new File(log.getLocation()).length();
+        log.truncate(size / 10);
+
+        assertTrue(new File(log.getLocation()).length() < size / 2);
+        UndoLogStorage.History history = log.read();
+        assertTrue(history.getUndoSteps().size() < 20);
+        assertEquals(1, history.getRedoSteps().size());
+        assertStepEquals(redoStep, history.getRedoSteps().get(0));
+    }
+
+    @Test
+    public void testMoveTo() throws Exception {
+        UndoStep step = createStep();
+        log.appendStep(step);
+
+        String newPath = new File(testFolder.getRoot(), "moved.xml").getPath();
+        log.moveTo(newPath);
+        assertFalse(new File(todoListPath + ".undo").exists());
+
+        List<UndoStep> undoSteps = new UndoLogStorage(newPath, Runnable::run).read().getUndoSteps();
+        assertEquals(1, undoSteps.size());
+        assertStepEquals(step, undoSteps.get(0));
+    }
+
+    @Test
+    public void testInvalidLog() throws Exception {
+        new File(log.getLocation()).createNewFile();
+        thrown.expect(DataConversionException.class);
+        log.read();
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.todo.storage;
+
+import static org.junit.Assert.*;
+import static seedu.todo.testutil.TestUtil.isShallowEqual;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.todo.model.task.ImmutableTask;
+import seedu.todo.model.task.Task;
+import seedu.todo.testutil.TaskBuilder;
+import seedu.todo.testutil.TaskFactory;
+
+//@@author A0135817B
+public class XmlAdaptedTaskConverterTest {
+    private static List<XmlAdaptedTask> toRecords(List<ImmutableTask> tasks) {
+        List<XmlAdaptedTask> records = new ArrayList<>();
+        tasks.forEach(task -> records.add(new XmlAdaptedTask(task)));
+        return records;
+    }
+
+    @Test
+    public void testEmpty() throws Exception {
+        assertTrue(XmlAdaptedTaskConverter.convert(new ArrayList<>()).isEmpty());
+    }
+
+    @Test
+    public void testKeepsOrderAcrossChunks() throws Exception {
+        List<ImmutableTask> tasks = new ArrayList<>();
+        for (int i = 0; i < XmlAdaptedTaskConverter.CHUNK_SIZE * 3 + 7; i++) {
+            tasks.add(TaskFactory.random());
+        }
+
+        assertTrue(isShallowEqual(tasks, XmlAdaptedTaskConverter.convert(toRecords(tasks))));
+    }
+
+    @Test
+    public void testReportsCorruptRecords() {
+        List<ImmutableTask> tasks = new ArrayList<>();
+        for (int i = 0; i < XmlAdaptedTaskConverter.CHUNK_SIZE + 10; i++) {
+            tasks.add(TaskFactory.random());
+        }
+        List<XmlAdaptedTask> records = toRecords(tasks);
+        records.set(5, new XmlAdaptedTask(new Task(" ")));
+        records.set(XmlAdaptedTaskConverter.CHUNK_SIZE + 5, new XmlAdaptedTask(new Task("")));
+
+        tasks.remove(XmlAdaptedTaskConverter.CHUNK_SIZE + 5);
+        tasks.remove(5);
+        try {
+            XmlAdaptedTaskConverter.convert(records);
+            fail();
+        } catch (CorruptTasksException e) {
+            // The positions of both records in the file are reported, along with the other tasks
+            assertTrue(e.getMessage().contains("6, " + (XmlAdaptedTaskConverter.CHUNK_SIZE + 6)));
+            assertTrue(isShallowEqual(tasks, e.getTasks()));
+        }
+    }
+
+    @Test
+    public void testTasksShareTags() throws Exception {
+        List<ImmutableTask> tasks = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            tasks.add(TaskBuilder.name("Task " + i).tagged("homework").build());
+        }
+
+        List<ImmutableTask> converted = XmlAdaptedTaskConverter.convert(toRecords(tasks));
+        assertSame(converted.get(0).getTags(), converted.get(1).getTags());
+        assertSame(converted.get(0).getTags(), converted.get(2).getTags());
+    }
+}
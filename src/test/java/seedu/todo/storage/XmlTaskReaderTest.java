@@ -0,0 +1,81 @@
+package seedu.todo.storage;
+
+import static org.junit.Assert.*;
+import static seedu.todo.testutil.TestUtil.isShallowEqual;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.todo.commons.exceptions.DataConversionException;
+import seedu.todo.commons.util.FileUtil;
+import seedu.todo.commons.util.XmlUtil;
+import seedu.todo.model.task.ImmutableTask;
+import seedu.todo.testutil.TaskFactory;
+
+//@@author A0135817B
+public class XmlTaskReaderTest {
+    private static final String TEST_DATA_FOLDER = FileUtil.getPath("./src/test/data/XmlUtilTest/");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private List<ImmutableTask> readAll(File file) throws Exception {
+        List<ImmutableTask> tasks = new ArrayList<>();
+        try (XmlTaskReader reader = new XmlTaskReader(file)) {
+            XmlAdaptedTask task;
+            while ((task = reader.next()) != null) {
+                tasks.add(task.toModelType());
+            }
+        }
+        return tasks;
+    }
+
+    @Test
+    public void testMissingFile() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        readAll(new File(TEST_DATA_FOLDER + "NonExistentFile.xml"));
+    }
+
+    @Test
+    public void testEmptyFile() throws Exception {
+        thrown.expect(DataConversionException.class);
+        readAll(new File(TEST_DATA_FOLDER + "empty.xml"));
+    }
+
+    @Test
+    public void testWrongRootElement() throws Exception {
+        File file = testFolder.newFile("wrong.xml");
+        FileUtil.writeToFile(file, "<addressbook><tasks><title>Hi</title></tasks></addressbook>");
+
+        thrown.expect(DataConversionException.class);
+        readAll(file);
+    }
+
+    @Test
+    public void testReadExistingFile() throws Exception {
+        List<ImmutableTask> tasks = readAll(new File(TEST_DATA_FOLDER + "validTodoList.xml"));
+
+        assertEquals(6, tasks.size());
+        assertEquals("Test", tasks.get(0).getTitle());
+        assertEquals("e9ef2e26-5cdd-4be0-9577-044f9c0e6f5b", tasks.get(0).getUUID().toString());
+    }
+
+    @Test
+    public void testReadJaxbOutput() throws Exception {
+        List<ImmutableTask> original = TaskFactory.list(20, 40);
+        File file = testFolder.newFile("jaxb.xml");
+        XmlUtil.saveDataToFile(file, new XmlSerializableTodoList(() -> original));
+
+        assertTrue(isShallowEqual(original, readAll(file)));
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.todo.storage;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.todo.commons.util.FileUtil;
+import seedu.todo.commons.util.XmlUtil;
+import seedu.todo.model.task.ImmutableTask;
+import seedu.todo.testutil.TaskBuilder;
+import seedu.todo.testutil.TaskFactory;
+
+//@@author A0135817B
+public class XmlTaskWriterTest {
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private File jaxbFile;
+    private File streamFile;
+
+    @Before
+    public void setUp() throws Exception {
+        jaxbFile = testFolder.newFile("jaxb.xml");
+        streamFile = new File(testFolder.getRoot(), "stream.xml");
+    }
+
+    private void assertSameAsJaxb(List<ImmutableTask> tasks) throws Exception {
+        XmlUtil.saveDataToFile(jaxbFile, new XmlSerializableTodoList(() -> tasks));
+
+        try (XmlTaskWriter writer = new XmlTaskWriter(streamFile)) {
+            for (ImmutableTask task : tasks) {
+                writer.write(new XmlAdaptedTask(task));
+            }
+        }
+
+        assertEquals(FileUtil.readFromFile(jaxbFile), FileUtil.readFromFile(streamFile));
+    }
+
+    @Test
+    public void testEmptyList() throws Exception {
+        assertSameAsJaxb(new ArrayList<>());
+    }
+
+    @Test
+    public void testRandomTasks() throws Exception {
+        assertSameAsJaxb(TaskFactory.list(20, 40));
+    }
+
+    @Test
+    public void testSpecialCharacters() throws Exception {
+        List<ImmutableTask> tasks = new ArrayList<>();
+        tasks.add(TaskBuilder.name("Fish & chips <for> \"two\" 'people'")
+            .description("Line one\r\nLine two\ttabbed")
+            .location("")
+            .tagged("urgent")
+            .build());
+        assertSameAsJaxb(tasks);
+    }
+}